@@ -0,0 +1,114 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.plugins.providers.multipart.MultipartFormDataWriter;
+
+/**
+ * Cache for pooled JAX-RS clients based on the base URI of the called service.<br>
+ * <br>
+ * Building a client is expensive (connection pool, provider registration, TLS handshake on the first call), so one client is shared by every
+ * request sent to the same base URI. The pool settings are read from {@link JaxrsClientConfig}. Asynchronous calls (e.g.
+ * {@link jakarta.ws.rs.client.Invocation.Builder#rx()}) run on a fixed size executor of the client, so their concurrency is bounded. The cached
+ * clients are closed by {@link #closeAll()} or at the latest on JVM shutdown.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class JaxrsClientCache {
+
+    private static final Map<String, ResteasyClient> CLIENT_BY_BASE_URI = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(JaxrsClientCache::closeAll, "roaster-jaxrs-client-shutdown"));
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private JaxrsClientCache() {
+    }
+
+    /**
+     * Retrieves the {@link ResteasyClient} instance associated with the provided base URI. If no instance exists for the given base URI, a new
+     * pooled client is created based on {@link JaxrsClientConfig}.
+     *
+     * @param baseUri
+     *            base URI of the called service, e.g.: {@literal http://localhost:8080}
+     * @return the shared {@link ResteasyClient} for the base URI
+     */
+    public static ResteasyClient get(String baseUri) {
+        return CLIENT_BY_BASE_URI.computeIfAbsent(baseUri, key -> createClient(new JaxrsClientConfig()));
+    }
+
+    /**
+     * Closes and evicts the client associated with the provided base URI. The next {@link #get(String)} call creates a new client.
+     *
+     * @param baseUri
+     *            base URI of the called service
+     */
+    public static void close(String baseUri) {
+        ResteasyClient client = CLIENT_BY_BASE_URI.remove(baseUri);
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * Closes and evicts every cached client, releasing the pooled connections.
+     */
+    public static void closeAll() {
+        CLIENT_BY_BASE_URI.keySet().forEach(JaxrsClientCache::close);
+    }
+
+    private static ResteasyClient createClient(JaxrsClientConfig config) {
+        ResteasyClientBuilder builder = ((ResteasyClientBuilder) ClientBuilder.newBuilder()).connectionPoolSize(config.getConnectionPoolSize())
+                .maxPooledPerRoute(config.getMaxPooledPerRoute())
+                .connectionTTL(config.getConnectionTTL(), TimeUnit.MILLISECONDS);
+        config.getConnectionCheckoutTimeout().ifPresent(timeout -> builder.connectionCheckoutTimeout(timeout, TimeUnit.MILLISECONDS));
+        config.getConnectTimeout().ifPresent(timeout -> builder.connectTimeout(timeout, TimeUnit.MILLISECONDS));
+        config.getReadTimeout().ifPresent(timeout -> builder.readTimeout(timeout, TimeUnit.MILLISECONDS));
+        // the executor is shut down by the client on close
+        builder.executorService(createAsyncExecutor(config.getAsyncMaxConcurrency()), true);
+        ResteasyClient client = builder.build();
+        client.register(MultipartFormDataWriter.class);
+        return client;
+    }
+
+    private static ExecutorService createAsyncExecutor(int maxConcurrency) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "roaster-jaxrs-async-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
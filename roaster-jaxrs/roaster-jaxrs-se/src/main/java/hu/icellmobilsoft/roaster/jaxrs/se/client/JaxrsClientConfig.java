@@ -0,0 +1,164 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.client;
+
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Helper class for obtaining the shared JAX-RS client settings using microprofile config.<br>
+ * General pattern is "{@code roaster.jaxrs.client.${setting}}"
+ *
+ * ie.:
+ *
+ * <pre>
+ *  roaster:
+ *    jaxrs:
+ *      client:
+ *        connectionPoolSize: 50
+ *        maxPooledPerRoute: 50
+ *        connectionTTL: 60000
+ *        connectionCheckoutTimeout: 5000
+ *        connectTimeout: 5000
+ *        readTimeout: 60000
+ *        asyncMaxConcurrency: 50
+ * </pre>
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class JaxrsClientConfig {
+
+    /**
+     * Constant <code>CLIENT_PREFIX="roaster.jaxrs.client"</code>
+     */
+    public static final String CLIENT_PREFIX = "roaster.jaxrs.client";
+
+    /**
+     * Constant <code>CONNECTION_POOL_SIZE="connectionPoolSize"</code>
+     */
+    public static final String CONNECTION_POOL_SIZE = "connectionPoolSize";
+    /**
+     * Constant <code>MAX_POOLED_PER_ROUTE="maxPooledPerRoute"</code>
+     */
+    public static final String MAX_POOLED_PER_ROUTE = "maxPooledPerRoute";
+    /**
+     * Constant <code>CONNECTION_TTL="connectionTTL"</code>
+     */
+    public static final String CONNECTION_TTL = "connectionTTL";
+    /**
+     * Constant <code>CONNECTION_CHECKOUT_TIMEOUT="connectionCheckoutTimeout"</code>
+     */
+    public static final String CONNECTION_CHECKOUT_TIMEOUT = "connectionCheckoutTimeout";
+    /**
+     * Constant <code>CONNECT_TIMEOUT="connectTimeout"</code>
+     */
+    public static final String CONNECT_TIMEOUT = "connectTimeout";
+    /**
+     * Constant <code>READ_TIMEOUT="readTimeout"</code>
+     */
+    public static final String READ_TIMEOUT = "readTimeout";
+    /**
+     * Constant <code>ASYNC_MAX_CONCURRENCY="asyncMaxConcurrency"</code>
+     */
+    public static final String ASYNC_MAX_CONCURRENCY = "asyncMaxConcurrency";
+    /**
+     * Constant <code>KEY_DELIMITER="."</code>
+     */
+    public static final String KEY_DELIMITER = ".";
+
+    private final Config config = ConfigProvider.getConfig();
+
+    /**
+     * Default constructor, constructs a new object.
+     */
+    public JaxrsClientConfig() {
+        super();
+    }
+
+    /**
+     * Maximum number of pooled connections of one client, shared by all routes.
+     *
+     * @return connection pool size, default 50
+     */
+    public int getConnectionPoolSize() {
+        return config.getOptionalValue(joinKey(CONNECTION_POOL_SIZE), Integer.class).orElse(50);
+    }
+
+    /**
+     * Maximum number of pooled connections for one route (host and port).
+     *
+     * @return max pooled connections per route, default is the {@link #getConnectionPoolSize()}
+     */
+    public int getMaxPooledPerRoute() {
+        return config.getOptionalValue(joinKey(MAX_POOLED_PER_ROUTE), Integer.class).orElseGet(this::getConnectionPoolSize);
+    }
+
+    /**
+     * How long a pooled connection is kept alive for reuse, in millisec. When negative, the connection is kept alive until the server closes it.
+     *
+     * @return connection time to live in millisec, default -1
+     */
+    public long getConnectionTTL() {
+        return config.getOptionalValue(joinKey(CONNECTION_TTL), Long.class).orElse(-1L);
+    }
+
+    /**
+     * How long to wait for a free pooled connection, in millisec.
+     *
+     * @return connection checkout timeout in millisec, if set
+     */
+    public Optional<Long> getConnectionCheckoutTimeout() {
+        return config.getOptionalValue(joinKey(CONNECTION_CHECKOUT_TIMEOUT), Long.class);
+    }
+
+    /**
+     * Socket connect timeout in millisec.
+     *
+     * @return connect timeout in millisec, if set
+     */
+    public Optional<Long> getConnectTimeout() {
+        return config.getOptionalValue(joinKey(CONNECT_TIMEOUT), Long.class);
+    }
+
+    /**
+     * Socket read timeout in millisec.
+     *
+     * @return read timeout in millisec, if set
+     */
+    public Optional<Long> getReadTimeout() {
+        return config.getOptionalValue(joinKey(READ_TIMEOUT), Long.class);
+    }
+
+    /**
+     * Maximum number of asynchronous calls executed at the same time by one client. Further calls wait in a queue.
+     *
+     * @return max concurrency of asynchronous calls, default is the {@link #getConnectionPoolSize()}
+     */
+    public int getAsyncMaxConcurrency() {
+        return config.getOptionalValue(joinKey(ASYNC_MAX_CONCURRENCY), Integer.class).orElseGet(this::getConnectionPoolSize);
+    }
+
+    private String joinKey(String key) {
+        return String.join(KEY_DELIMITER, CLIENT_PREFIX, key);
+    }
+}
@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Process-wide registry of the call metrics of the response processors. The calls are recorded only if enabled by
+ * {@link MetricsConfig#isEnabled()}, then the summary report is printed on JVM shutdown, or it can be queried with {@link #report()}.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class CallMetricsRegistry {
+
+    private static final Map<String, EndpointMetrics> METRICS_BY_ENDPOINT = new ConcurrentHashMap<>();
+    private static final AtomicBoolean SHUTDOWN_HOOK_REGISTERED = new AtomicBoolean();
+
+    private CallMetricsRegistry() {
+    }
+
+    /**
+     * Whether the calls should be measured, see {@link MetricsConfig#isEnabled()}
+     *
+     * @return {@code true} if enabled
+     */
+    public static boolean isEnabled() {
+        return new MetricsConfig().isEnabled();
+    }
+
+    /**
+     * Records a call of the endpoint
+     *
+     * @param endpoint
+     *            endpoint name, like {@code GET http://localhost:8080/rest/test/{id}}
+     * @param status
+     *            HTTP status code of the response
+     * @param startNanos
+     *            start of the call, {@link System#nanoTime()}
+     * @param durationNanos
+     *            duration of the call in nanosec
+     * @param requestByteCount
+     *            size of the request body, -1 if unknown
+     * @param responseByteCount
+     *            size of the response body, -1 if unknown
+     */
+    public static void record(String endpoint, int status, long startNanos, long durationNanos, long requestByteCount, long responseByteCount) {
+        registerShutdownHook();
+        METRICS_BY_ENDPOINT.computeIfAbsent(endpoint, EndpointMetrics::new)
+                .record(status, startNanos, durationNanos, requestByteCount, responseByteCount);
+    }
+
+    /**
+     * Collected metrics by endpoint
+     *
+     * @return metrics of the called endpoints, ordered by endpoint
+     */
+    public static List<EndpointMetrics> getEndpointMetrics() {
+        List<EndpointMetrics> result = new ArrayList<>(METRICS_BY_ENDPOINT.values());
+        result.sort(Comparator.comparing(EndpointMetrics::getEndpoint));
+        return result;
+    }
+
+    /**
+     * Drops the collected metrics
+     */
+    public static void reset() {
+        METRICS_BY_ENDPOINT.clear();
+    }
+
+    /**
+     * Summary report of the collected metrics, one line per endpoint
+     *
+     * @return report text
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder("Roaster call metrics (latency in ms):");
+        for (EndpointMetrics metrics : getEndpointMetrics()) {
+            LatencyHistogram latency = metrics.getLatency();
+            report.append(System.lineSeparator())
+                    .append(String.format(Locale.ROOT,
+                            "%s: calls=%d, throughput=%.1f/s, mean=%.2f, p50=%.2f, p90=%.2f, p99=%.2f, max=%.2f, requestBytes=%d, responseBytes=%d, status=%s",
+                            metrics.getEndpoint(),
+                            metrics.getCount(),
+                            metrics.getThroughput(),
+                            toMillis(latency.getMean()),
+                            toMillis(latency.getValueAtPercentile(50)),
+                            toMillis(latency.getValueAtPercentile(90)),
+                            toMillis(latency.getValueAtPercentile(99)),
+                            toMillis(latency.getMax()),
+                            metrics.getRequestBytes(),
+                            metrics.getResponseBytes(),
+                            metrics.getStatusCounts()));
+        }
+        return report.toString();
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static void registerShutdownHook() {
+        if (!SHUTDOWN_HOOK_REGISTERED.get() && SHUTDOWN_HOOK_REGISTERED.compareAndSet(false, true) && new MetricsConfig().isReportOnShutdown()) {
+            // JUL handlers may already be closed on shutdown, so the report goes to the standard output
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                if (!METRICS_BY_ENDPOINT.isEmpty()) {
+                    System.out.println(report());
+                }
+            }, "roaster-call-metrics-report"));
+        }
+    }
+}
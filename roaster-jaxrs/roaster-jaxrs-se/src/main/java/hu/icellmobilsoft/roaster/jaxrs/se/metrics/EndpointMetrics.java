@@ -0,0 +1,151 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collected metrics of the calls of one endpoint (HTTP method and path template)
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class EndpointMetrics {
+
+    private final String endpoint;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAccumulator firstStart = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator lastEnd = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * Creates a new {@link EndpointMetrics} instance.
+     *
+     * @param endpoint
+     *            endpoint name, like {@code GET http://localhost:8080/rest/test/{id}}
+     */
+    public EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Records a call
+     *
+     * @param status
+     *            HTTP status code of the response
+     * @param startNanos
+     *            start of the call, {@link System#nanoTime()}
+     * @param durationNanos
+     *            duration of the call in nanosec
+     * @param requestByteCount
+     *            size of the request body, not recorded if negative (unknown)
+     * @param responseByteCount
+     *            size of the response body, not recorded if negative (unknown)
+     */
+    public void record(int status, long startNanos, long durationNanos, long requestByteCount, long responseByteCount) {
+        latency.record(durationNanos);
+        statusCounts.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (requestByteCount > 0) {
+            requestBytes.add(requestByteCount);
+        }
+        if (responseByteCount > 0) {
+            responseBytes.add(responseByteCount);
+        }
+        firstStart.accumulate(startNanos);
+        lastEnd.accumulate(startNanos + durationNanos);
+    }
+
+    /**
+     * Getter for the field {@code endpoint}.
+     *
+     * @return endpoint name
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Latency of the calls in nanosec
+     *
+     * @return latency histogram
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Number of calls
+     *
+     * @return call count
+     */
+    public long getCount() {
+        return latency.getCount();
+    }
+
+    /**
+     * Sum of the known request body sizes
+     *
+     * @return byte count
+     */
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    /**
+     * Sum of the known response body sizes
+     *
+     * @return byte count
+     */
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * Number of calls by response status code
+     *
+     * @return call count by status, ordered by status
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> result = new TreeMap<>();
+        statusCounts.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+
+    /**
+     * Number of calls per second between the start of the first and the end of the last call
+     *
+     * @return throughput in calls/sec, 0 if nothing was recorded
+     */
+    public double getThroughput() {
+        long count = getCount();
+        long window = lastEnd.get() - firstStart.get();
+        if (count == 0 || window <= 0) {
+            return 0;
+        }
+        return count * (double) TimeUnit.SECONDS.toNanos(1) / window;
+    }
+}
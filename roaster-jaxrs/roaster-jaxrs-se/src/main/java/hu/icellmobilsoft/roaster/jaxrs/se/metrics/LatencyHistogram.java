@@ -0,0 +1,146 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, fixed size latency histogram with log-linear buckets, similar to HdrHistogram: every power of two range is divided into
+ * {@value #SUB_BUCKET_COUNT} linear sub-buckets, so the recorded values are kept with at most 1/{@value #SUB_BUCKET_COUNT} (6.25%) relative
+ * error, independently of the magnitude. Recording is a single atomic increment, so it can be used by parallel calls.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Default constructor, constructs a new object.
+     */
+    public LatencyHistogram() {
+        super();
+    }
+
+    /**
+     * Records a value
+     *
+     * @param value
+     *            non-negative value, like a duration in nanosec; negative values are recorded as 0
+     */
+    public void record(long value) {
+        long nonNegative = Math.max(0, value);
+        counts.incrementAndGet(bucketIndex(nonNegative));
+        totalCount.increment();
+        sum.add(nonNegative);
+        min.accumulate(nonNegative);
+        max.accumulate(nonNegative);
+    }
+
+    /**
+     * Number of recorded values
+     *
+     * @return count
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Smallest recorded value
+     *
+     * @return min value, 0 if nothing was recorded
+     */
+    public long getMin() {
+        return getCount() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * Largest recorded value
+     *
+     * @return max value, 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Mean of the recorded values
+     *
+     * @return mean value, 0 if nothing was recorded
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Value at the percentile: the highest value of the bucket containing the percentile, but not more than the max value
+     *
+     * @param percentile
+     *            percentile between 0 and 100, like 99.9
+     * @return value at the percentile, 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= rank) {
+                return Math.min(highestValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + bucketIndex % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,110 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import hu.icellmobilsoft.roaster.jaxrs.se.replay.ReplayClientFilter;
+
+/**
+ * JAX-RS client filter measuring the calls into the {@link CallMetricsRegistry}. The latency is measured from the start of the request
+ * until the response headers arrive, the request size is counted while the entity is written, the response size is the
+ * {@code Content-Length} of the response (unknown for chunked responses). The calls served by {@link ReplayClientFilter} are not measured.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class MetricsClientFilter implements ClientRequestFilter, ClientResponseFilter, WriterInterceptor {
+
+    private static final String START_PROPERTY = MetricsClientFilter.class.getName() + ".start";
+    private static final String REQUEST_BYTES_PROPERTY = MetricsClientFilter.class.getName() + ".requestBytes";
+
+    private final String uriTemplate;
+
+    /**
+     * Creates a new {@link MetricsClientFilter} instance.
+     *
+     * @param uriTemplate
+     *            URI template of the endpoint (before the path parameters are resolved), the calls are grouped by the HTTP method and this
+     *            template
+     */
+    public MetricsClientFilter(String uriTemplate) {
+        this.uriTemplate = Objects.requireNonNull(uriTemplate, "uriTemplate must not be null!");
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext) throws IOException {
+        requestContext.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        CountingOutputStream countingOutputStream = new CountingOutputStream(context.getOutputStream());
+        context.setOutputStream(countingOutputStream);
+        try {
+            context.proceed();
+        } finally {
+            context.setProperty(REQUEST_BYTES_PROPERTY, countingOutputStream.count);
+        }
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) throws IOException {
+        Object start = requestContext.getProperty(START_PROPERTY);
+        if (start == null || ReplayClientFilter.isReplayed(requestContext)) {
+            return;
+        }
+        long startNanos = (Long) start;
+        Object requestBytes = requestContext.getProperty(REQUEST_BYTES_PROPERTY);
+        CallMetricsRegistry.record(requestContext.getMethod() + " " + uriTemplate, responseContext.getStatus(), startNanos,
+                System.nanoTime() - startNanos, requestBytes == null ? -1 : (Long) requestBytes, responseContext.getLength());
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.metrics;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Helper class for obtaining the call metrics settings using microprofile config.<br>
+ * General pattern is "{@code roaster.metrics.${setting}}"
+ *
+ * ie.:
+ *
+ * <pre>
+ *  roaster:
+ *    metrics:
+ *      enabled: true
+ *      reportOnShutdown: true
+ * </pre>
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class MetricsConfig {
+
+    /**
+     * Constant <code>METRICS_PREFIX="roaster.metrics"</code>
+     */
+    public static final String METRICS_PREFIX = "roaster.metrics";
+
+    /**
+     * Constant <code>ENABLED="enabled"</code>
+     */
+    public static final String ENABLED = "enabled";
+    /**
+     * Constant <code>REPORT_ON_SHUTDOWN="reportOnShutdown"</code>
+     */
+    public static final String REPORT_ON_SHUTDOWN = "reportOnShutdown";
+    /**
+     * Constant <code>KEY_DELIMITER="."</code>
+     */
+    public static final String KEY_DELIMITER = ".";
+
+    private final Config config = ConfigProvider.getConfig();
+
+    /**
+     * Default constructor, constructs a new object.
+     */
+    public MetricsConfig() {
+        super();
+    }
+
+    /**
+     * Whether the calls of the response processors are measured
+     *
+     * @return default {@code false}
+     */
+    public boolean isEnabled() {
+        return config.getOptionalValue(joinKey(ENABLED), Boolean.class).orElse(Boolean.FALSE);
+    }
+
+    /**
+     * Whether the summary report is printed to the standard output on JVM shutdown
+     *
+     * @return default {@code true}
+     */
+    public boolean isReportOnShutdown() {
+        return config.getOptionalValue(joinKey(REPORT_ON_SHUTDOWN), Boolean.class).orElse(Boolean.TRUE);
+    }
+
+    private String joinKey(String key) {
+        return String.join(KEY_DELIMITER, METRICS_PREFIX, key);
+    }
+}
@@ -0,0 +1,82 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.replay;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Recorded HTTP response
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class RecordedResponse {
+
+    private final int status;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    /**
+     * Creates a new {@link RecordedResponse} instance.
+     *
+     * @param status
+     *            HTTP status code
+     * @param headers
+     *            HTTP response headers
+     * @param body
+     *            response body
+     */
+    public RecordedResponse(int status, Map<String, List<String>> headers, byte[] body) {
+        this.status = status;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(Objects.requireNonNull(headers, "headers must not be null!")));
+        this.body = Objects.requireNonNull(body, "body must not be null!");
+    }
+
+    /**
+     * Getter for the field {@code status}.
+     *
+     * @return HTTP status code
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Getter for the field {@code headers}.
+     *
+     * @return HTTP response headers, unmodifiable
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Getter for the field {@code body}.
+     *
+     * @return response body
+     */
+    public byte[] getBody() {
+        return body;
+    }
+}
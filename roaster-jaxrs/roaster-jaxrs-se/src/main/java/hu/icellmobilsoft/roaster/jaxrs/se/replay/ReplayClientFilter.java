@@ -0,0 +1,216 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+
+import org.jboss.resteasy.plugins.providers.multipart.MultipartFormDataOutput;
+import org.jboss.resteasy.plugins.providers.multipart.OutputPart;
+
+import hu.icellmobilsoft.coffee.se.logging.Logger;
+import hu.icellmobilsoft.coffee.tool.utils.json.JsonUtil;
+import hu.icellmobilsoft.roaster.api.TestException;
+
+/**
+ * JAX-RS client filter recording the responses into the {@link ReplayStore} and serving the calls from the recordings, according to the
+ * {@link ReplayMode}.<br>
+ * <br>
+ * The key of the call is built from the method, the full URI and the content of the request entity. String and byte array entities are hashed
+ * as they are, other entities are serialized by their media type: JSON with {@link JsonUtil}, XML with JAXB. Multipart forms are hashed by
+ * their parts the same way. Calls with an entity (or part) which can not be serialized this way are neither recorded nor replayed, they are
+ * passed through to the server. The recorded response body is read into the memory.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class ReplayClientFilter implements ClientRequestFilter, ClientResponseFilter {
+
+    private static final String KEY_PROPERTY = ReplayClientFilter.class.getName() + ".key";
+    private static final String REPLAYED_PROPERTY = ReplayClientFilter.class.getName() + ".replayed";
+    private static final Map<Class<?>, JAXBContext> JAXB_CONTEXTS = new ConcurrentHashMap<>();
+    private static final Logger log = Logger.getLogger(ReplayClientFilter.class);
+
+    private final ReplayMode mode;
+    private final ReplayStore store;
+
+    /**
+     * Creates a new {@link ReplayClientFilter} instance.
+     *
+     * @param mode
+     *            working mode
+     * @param store
+     *            store of the recordings
+     */
+    public ReplayClientFilter(ReplayMode mode, ReplayStore store) {
+        this.mode = Objects.requireNonNull(mode, "mode must not be null!");
+        this.store = Objects.requireNonNull(store, "store must not be null!");
+    }
+
+    /**
+     * Creates the filter from the {@link ReplayConfig}
+     *
+     * @return filter, empty if the mode is {@link ReplayMode#OFF}
+     */
+    public static Optional<ReplayClientFilter> fromConfig() {
+        ReplayConfig replayConfig = new ReplayConfig();
+        ReplayMode mode = replayConfig.getMode();
+        return mode == ReplayMode.OFF ? Optional.empty() : Optional.of(new ReplayClientFilter(mode, ReplayStore.fromConfig(replayConfig)));
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext) throws IOException {
+        String method = requestContext.getMethod();
+        String uri = requestContext.getUri().toString();
+        Optional<byte[]> entityBytes = entityBytes(requestContext.getEntity(), requestContext.getMediaType());
+        if (entityBytes.isEmpty()) {
+            log.debug("Request entity of [{0} {1}] can not be serialized for the replay key, passing through.", method, uri);
+            return;
+        }
+        String key = ReplayStore.key(method, uri, entityBytes.get());
+        requestContext.setProperty(KEY_PROPERTY, key);
+        if (!mode.isReplaying()) {
+            return;
+        }
+        Optional<RecordedResponse> recorded = store.load(key);
+        if (recorded.isPresent()) {
+            requestContext.setProperty(REPLAYED_PROPERTY, Boolean.TRUE);
+            requestContext.abortWith(toResponse(recorded.get()));
+        } else if (mode == ReplayMode.REPLAY) {
+            throw new TestException("No recorded response of [" + method + " " + uri + "] in [" + store.getDirectory() + "]");
+        }
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) throws IOException {
+        Object key = requestContext.getProperty(KEY_PROPERTY);
+        if (!mode.isRecording() || key == null || requestContext.getProperty(REPLAYED_PROPERTY) != null) {
+            return;
+        }
+        byte[] body;
+        if (responseContext.hasEntity()) {
+            try (InputStream entityStream = responseContext.getEntityStream()) {
+                body = entityStream.readAllBytes();
+            }
+        } else {
+            body = new byte[0];
+        }
+        store.save((String) key, requestContext.getMethod(), requestContext.getUri().toString(),
+                new RecordedResponse(responseContext.getStatus(), ReplayStore.recordableHeaders(responseContext.getHeaders()), body));
+        responseContext.setEntityStream(new ByteArrayInputStream(body));
+    }
+
+    /**
+     * Whether the response of the call is served from the recordings
+     *
+     * @param requestContext
+     *            request context of the call
+     * @return true if the response is replayed
+     */
+    public static boolean isReplayed(ClientRequestContext requestContext) {
+        return requestContext.getProperty(REPLAYED_PROPERTY) != null;
+    }
+
+    private static Response toResponse(RecordedResponse recorded) {
+        Response.ResponseBuilder builder = Response.status(recorded.getStatus());
+        recorded.getHeaders().forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+        if (recorded.getBody().length > 0) {
+            builder.entity(new ByteArrayInputStream(recorded.getBody()));
+        }
+        return builder.build();
+    }
+
+    private static Optional<byte[]> entityBytes(Object entity, MediaType mediaType) throws IOException {
+        if (entity == null) {
+            return Optional.of(new byte[0]);
+        }
+        if (entity instanceof byte[]) {
+            return Optional.of((byte[]) entity);
+        }
+        if (entity instanceof String) {
+            return Optional.of(((String) entity).getBytes(StandardCharsets.UTF_8));
+        }
+        if (entity instanceof MultipartFormDataOutput) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (Map.Entry<String, List<OutputPart>> entry : ((MultipartFormDataOutput) entity).getFormDataMap().entrySet()) {
+                out.write(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                for (OutputPart part : entry.getValue()) {
+                    Optional<byte[]> partBytes = entityBytes(part.getEntity(), part.getMediaType());
+                    if (partBytes.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    out.write('\n');
+                    out.write(partBytes.get());
+                }
+                out.write('\n');
+            }
+            return Optional.of(out.toByteArray());
+        }
+        if (isSubtype(mediaType, "json")) {
+            return JsonUtil.toJsonOpt(entity).map(json -> json.getBytes(StandardCharsets.UTF_8));
+        }
+        if (isSubtype(mediaType, "xml")) {
+            return marshalXml(entity);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isSubtype(MediaType mediaType, String subtype) {
+        if (mediaType == null) {
+            return false;
+        }
+        String actual = mediaType.getSubtype().toLowerCase(Locale.ROOT);
+        return actual.equals(subtype) || actual.endsWith("+" + subtype);
+    }
+
+    private static Optional<byte[]> marshalXml(Object entity) {
+        try {
+            JAXBContext context = JAXB_CONTEXTS.get(entity.getClass());
+            if (context == null) {
+                context = JAXBContext.newInstance(entity.getClass());
+                JAXB_CONTEXTS.putIfAbsent(entity.getClass(), context);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            context.createMarshaller().marshal(entity, out);
+            return Optional.of(out.toByteArray());
+        } catch (JAXBException e) {
+            log.debug("Entity [{0}] can not be marshalled: [{1}]", entity.getClass().getName(), e.getLocalizedMessage());
+            return Optional.empty();
+        }
+    }
+}
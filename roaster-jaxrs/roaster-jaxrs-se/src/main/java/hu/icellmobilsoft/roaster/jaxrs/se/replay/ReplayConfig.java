@@ -0,0 +1,96 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.replay;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Helper class for obtaining the HTTP response record/replay settings using microprofile config.<br>
+ * General pattern is "{@code roaster.replay.${setting}}"
+ *
+ * ie.:
+ *
+ * <pre>
+ *  roaster:
+ *    replay:
+ *      mode: REPLAY_OR_RECORD
+ *      directory: src/test/resources/replay
+ * </pre>
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class ReplayConfig {
+
+    /**
+     * Constant <code>REPLAY_PREFIX="roaster.replay"</code>
+     */
+    public static final String REPLAY_PREFIX = "roaster.replay";
+
+    /**
+     * Constant <code>MODE="mode"</code>
+     */
+    public static final String MODE = "mode";
+    /**
+     * Constant <code>DIRECTORY="directory"</code>
+     */
+    public static final String DIRECTORY = "directory";
+    /**
+     * Constant <code>KEY_DELIMITER="."</code>
+     */
+    public static final String KEY_DELIMITER = ".";
+
+    /**
+     * Constant <code>DEFAULT_DIRECTORY="target/roaster-replay"</code>
+     */
+    public static final String DEFAULT_DIRECTORY = "target/roaster-replay";
+
+    private final Config config = ConfigProvider.getConfig();
+
+    /**
+     * Default constructor, constructs a new object.
+     */
+    public ReplayConfig() {
+        super();
+    }
+
+    /**
+     * Working mode of the record/replay
+     *
+     * @return configured mode, default {@link ReplayMode#OFF}
+     */
+    public ReplayMode getMode() {
+        return config.getOptionalValue(joinKey(MODE), ReplayMode.class).orElse(ReplayMode.OFF);
+    }
+
+    /**
+     * Directory of the recorded responses
+     *
+     * @return configured directory, default {@value #DEFAULT_DIRECTORY}
+     */
+    public String getDirectory() {
+        return config.getOptionalValue(joinKey(DIRECTORY), String.class).orElse(DEFAULT_DIRECTORY);
+    }
+
+    private String joinKey(String key) {
+        return String.join(KEY_DELIMITER, REPLAY_PREFIX, key);
+    }
+}
@@ -0,0 +1,67 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.replay;
+
+/**
+ * Working mode of the HTTP response record/replay
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public enum ReplayMode {
+
+    /**
+     * Every call goes to the service, nothing is recorded
+     */
+    OFF,
+
+    /**
+     * Every call goes to the service and the response is recorded, overwriting the earlier recording
+     */
+    RECORD,
+
+    /**
+     * Every call is served from the recordings, the service is not called. A call without recording fails.
+     */
+    REPLAY,
+
+    /**
+     * Recorded calls are served from the recordings, the others go to the service and their response is recorded
+     */
+    REPLAY_OR_RECORD;
+
+    /**
+     * Whether the recorded response is served in this mode
+     *
+     * @return {@code true} in {@link #REPLAY} and {@link #REPLAY_OR_RECORD} mode
+     */
+    public boolean isReplaying() {
+        return this == REPLAY || this == REPLAY_OR_RECORD;
+    }
+
+    /**
+     * Whether the real response is recorded in this mode
+     *
+     * @return {@code true} in {@link #RECORD} and {@link #REPLAY_OR_RECORD} mode
+     */
+    public boolean isRecording() {
+        return this == RECORD || this == REPLAY_OR_RECORD;
+    }
+}
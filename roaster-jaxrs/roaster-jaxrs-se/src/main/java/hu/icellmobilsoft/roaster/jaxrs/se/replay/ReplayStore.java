@@ -0,0 +1,218 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.replay;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+import hu.icellmobilsoft.roaster.api.TestException;
+
+/**
+ * Local file store of the recorded HTTP responses. A response is stored in 2 files named by the key of the request (see
+ * {@link #key(String, String, byte[])}): the {@code <key>.properties} file contains the request method and URI, the response status and
+ * headers, the {@code <key>.body} file contains the response body as it is.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class ReplayStore {
+
+    private static final String METHOD = "method";
+    private static final String URI = "uri";
+    private static final String STATUS = "status";
+    private static final String HEADER_PREFIX = "header.";
+    private static final String HEADER_VALUE_DELIMITER = "\n";
+    private static final String PROPERTIES_EXTENSION = ".properties";
+    private static final String BODY_EXTENSION = ".body";
+
+    private final Path directory;
+
+    /**
+     * Creates a new {@link ReplayStore} instance.
+     *
+     * @param directory
+     *            directory of the recorded responses, created on the first recording
+     */
+    public ReplayStore(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null!");
+    }
+
+    /**
+     * Creates a store in the directory of the {@link ReplayConfig}
+     *
+     * @param replayConfig
+     *            record/replay settings
+     * @return store of the configured directory
+     */
+    public static ReplayStore fromConfig(ReplayConfig replayConfig) {
+        return new ReplayStore(Paths.get(replayConfig.getDirectory()));
+    }
+
+    /**
+     * Key of the request: hash of the method, the full URI (with query parameters) and the request body
+     *
+     * @param method
+     *            HTTP method
+     * @param uri
+     *            full request URI
+     * @param body
+     *            request body, empty if there is no body
+     * @return hex SHA-256 hash
+     */
+    public static String key(String method, String uri, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(method.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(uri.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new TestException("SHA-256 is not supported: " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Headers of the response worth recording, the connection specific ones are left out
+     *
+     * @param headers
+     *            all response headers
+     * @return recordable headers
+     */
+    public static Map<String, List<String>> recordableHeaders(Map<String, ? extends List<?>> headers) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        headers.forEach((name, values) -> {
+            if (!isConnectionHeader(name)) {
+                List<String> stringValues = new ArrayList<>();
+                values.forEach(value -> stringValues.add(String.valueOf(value)));
+                result.put(name, stringValues);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Loads the recorded response of the key
+     *
+     * @param key
+     *            key of the request
+     * @return recorded response, empty if not recorded
+     */
+    public Optional<RecordedResponse> load(String key) {
+        Path propertiesFile = directory.resolve(key + PROPERTIES_EXTENSION);
+        if (!Files.isRegularFile(propertiesFile)) {
+            return Optional.empty();
+        }
+        try {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(propertiesFile)) {
+                properties.load(in);
+            }
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(HEADER_PREFIX)) {
+                    headers.put(name.substring(HEADER_PREFIX.length()), Arrays.asList(properties.getProperty(name).split(HEADER_VALUE_DELIMITER)));
+                }
+            }
+            byte[] body = Files.readAllBytes(directory.resolve(key + BODY_EXTENSION));
+            return Optional.of(new RecordedResponse(Integer.parseInt(properties.getProperty(STATUS)), headers, body));
+        } catch (IOException | RuntimeException e) {
+            throw new TestException("Could not load recorded response [" + propertiesFile + "]: " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Records the response of the request, overwriting the earlier recording. The files are replaced atomically, so parallel calls do not read
+     * half written recordings.
+     *
+     * @param key
+     *            key of the request
+     * @param method
+     *            HTTP method, stored for information
+     * @param uri
+     *            full request URI, stored for information
+     * @param response
+     *            response to record
+     */
+    public void save(String key, String method, String uri, RecordedResponse response) {
+        Properties properties = new Properties();
+        properties.setProperty(METHOD, method);
+        properties.setProperty(URI, uri);
+        properties.setProperty(STATUS, String.valueOf(response.getStatus()));
+        response.getHeaders().forEach((name, values) -> properties.setProperty(HEADER_PREFIX + name, String.join(HEADER_VALUE_DELIMITER, values)));
+        try {
+            Files.createDirectories(directory);
+            // the body first, the properties file marks the recording complete
+            write(key + BODY_EXTENSION, out -> out.write(response.getBody()));
+            write(key + PROPERTIES_EXTENSION, out -> properties.store(out, method + " " + uri));
+        } catch (IOException e) {
+            throw new TestException("Could not record response of [" + method + " " + uri + "]: " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Getter for the field {@code directory}.
+     *
+     * @return directory of the recorded responses
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private void write(String fileName, ContentWriter writer) throws IOException {
+        Path tempFile = Files.createTempFile(directory, fileName, ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                writer.write(out);
+            }
+            Files.move(tempFile, directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static boolean isConnectionHeader(String name) {
+        return "Transfer-Encoding".equalsIgnoreCase(name) || "Content-Length".equalsIgnoreCase(name) || "Connection".equalsIgnoreCase(name)
+                || "Keep-Alive".equalsIgnoreCase(name) || "Date".equalsIgnoreCase(name);
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,46 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.jaxrs.se.response;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Processes a streamed HTTP response body chunk by chunk, without reading the whole body into the memory.
+ *
+ * @param <T>
+ *            result type of the processing
+ * @author agent
+ * @since 2.8.0
+ */
+@FunctionalInterface
+public interface OctetStreamProcessor<T> {
+
+    /**
+     * Processes the response body stream. The stream is closed by the caller after processing.
+     *
+     * @param inputStream
+     *            response body stream
+     * @return result of the processing, e.g.: checksum or byte count
+     * @throws IOException
+     *             if the stream can not be read
+     */
+    T process(InputStream inputStream) throws IOException;
+}
@@ -19,11 +19,13 @@
  */
 package hu.icellmobilsoft.roaster.jaxrs.se.response;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 
-import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.core.Configurable;
@@ -36,10 +38,13 @@ import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.resteasy.client.jaxrs.ResteasyClient;
 import org.jboss.resteasy.client.jaxrs.ResteasyWebTarget;
 import org.jboss.resteasy.plugins.providers.multipart.MultipartFormDataOutput;
-import org.jboss.resteasy.plugins.providers.multipart.MultipartFormDataWriter;
 
 import hu.icellmobilsoft.coffee.module.mp.restclient.provider.DefaultBaseExceptionResponseExceptionMapper;
 import hu.icellmobilsoft.roaster.api.TestException;
+import hu.icellmobilsoft.roaster.jaxrs.se.client.JaxrsClientCache;
+import hu.icellmobilsoft.roaster.jaxrs.se.metrics.CallMetricsRegistry;
+import hu.icellmobilsoft.roaster.jaxrs.se.metrics.MetricsClientFilter;
+import hu.icellmobilsoft.roaster.jaxrs.se.replay.ReplayClientFilter;
 
 /**
  * Base Response REST handler based on JXRS
@@ -110,16 +115,91 @@ public abstract class ResponseProcessor<RESPONSE> {
      * @return response object cast to responseClass
      */
     public RESPONSE getOctetStream(Class<RESPONSE> responseClass, Object... pathParams) {
+        Response response = getOctetStreamResponse(pathParams);
+        return processResponse(response, responseClass);
+    }
+
+    /**
+     * Call HTTP GET method and get the response body as a stream, without reading it into the memory. The caller must close the returned stream,
+     * otherwise the connection is not released.
+     *
+     * @param pathParams
+     *            The path parameters.
+     * @return response body stream
+     */
+    public InputStream getOctetStreamAsInputStream(Object... pathParams) {
+        return readOctetStream(getOctetStreamResponse(pathParams));
+    }
+
+    /**
+     * Call HTTP GET method and process the response body as a stream, without reading it into the memory. Useful for large downloads, where only a
+     * checksum, the size or some parts of the body should be asserted.
+     *
+     * @param <T>
+     *            result type of the processing
+     * @param streamProcessor
+     *            processes the response body stream
+     * @param pathParams
+     *            The path parameters.
+     * @return result of the {@code streamProcessor}
+     */
+    public <T> T getOctetStream(OctetStreamProcessor<T> streamProcessor, Object... pathParams) {
+        Objects.requireNonNull(streamProcessor, "streamProcessor");
+        Response response = getOctetStreamResponse(pathParams);
+        try (InputStream inputStream = readOctetStream(response)) {
+            return streamProcessor.process(inputStream);
+        } catch (IOException e) {
+            throw new TestException("Could not process the octet stream response: " + e.getLocalizedMessage(), e);
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Call and get object from HTTP GET method asynchronously. The call runs on the bounded async executor of the shared client, see
+     * {@link JaxrsClientCache}
+     *
+     * @param responseClass
+     *            response class
+     * @param pathParams
+     *            The path parameters.
+     * @return completion stage of the response object cast to responseClass
+     */
+    public CompletionStage<RESPONSE> getOctetStreamAsync(Class<RESPONSE> responseClass, Object... pathParams) {
+        return createOctetStreamRequest(pathParams).rx().get().thenApply(response -> processResponse(response, responseClass));
+    }
+
+    /**
+     * Call HTTP GET method accepting octet stream
+     *
+     * @param pathParams
+     *            The path parameters.
+     * @return JAXRS rest client response, not read yet
+     */
+    protected Response getOctetStreamResponse(Object... pathParams) {
+        return createOctetStreamRequest(pathParams).get();
+    }
+
+    /**
+     * Creates the HTTP GET request accepting octet stream
+     *
+     * @param pathParams
+     *            The path parameters.
+     * @return customized JAXRS request builder
+     */
+    protected Invocation.Builder createOctetStreamRequest(Object... pathParams) {
+        UriBuilder uriBuilder = UriBuilder.fromUri(baseUri() + path());
+        uriBuilder = uriBuilderCustomization(uriBuilder);
         // REST obtaining client
-        ResteasyClient client = (ResteasyClient) ClientBuilder.newClient();
-        ResteasyWebTarget target = client.target(UriBuilder.fromUri(baseUri() + path()).build(pathParams));
-        target.register(MultipartFormDataWriter.class);
-        filters.forEach(target::register);
-        // GET kuldese
+        ResteasyWebTarget target = getClient().target(uriBuilder.build(pathParams));
+        registerFilters(target);
         Invocation.Builder builder = target.request().accept(MediaType.APPLICATION_OCTET_STREAM_TYPE);
-        builder = clientBuilderCustomization(builder);
-        Response response = builder.get();
-        return processResponse(response, responseClass);
+        return clientBuilderCustomization(builder);
+    }
+
+    private InputStream readOctetStream(Response response) {
+        validateResponseStatus(response);
+        return response.readEntity(InputStream.class);
     }
 
     /**
@@ -132,9 +212,22 @@ public abstract class ResponseProcessor<RESPONSE> {
      * @return Parsed response entity
      */
     protected RESPONSE processResponse(Response response, Class<RESPONSE> responseClass) {
-        if (response.getStatus() == expectedStatusCode) {
-            return response.readEntity(responseClass);
-        } else {
+        validateResponseStatus(response);
+        return response.readEntity(responseClass);
+    }
+
+    /**
+     * Checks the response status against the {@link #getExpectedStatusCode()}. On mismatch the response is closed.
+     *
+     * @param response
+     *            JAXRS rest client response
+     * @throws TestException
+     *             if the response status is not the expected one
+     */
+    protected void validateResponseStatus(Response response) {
+        if (response.getStatus() != expectedStatusCode) {
+            // the connection goes back to the shared pool only if the response is closed
+            response.close();
             throw new TestException(
                     MessageFormat.format("Expected handled response status is [{0}], but real is [{1}]", expectedStatusCode, response.getStatus()));
         }
@@ -185,19 +278,107 @@ public abstract class ResponseProcessor<RESPONSE> {
      */
     protected RESPONSE postMultipart(MultipartFormDataOutput requestMultipartForm, Class<RESPONSE> responseClass, MediaType responseMediaType,
             Object... pathParams) {
-        ResteasyClient client = (ResteasyClient) ClientBuilder.newClient();
+        // Sending POST
+        Response response = createMultipartRequest(responseMediaType, pathParams)
+                .post(Entity.entity(requestMultipartForm, MediaType.MULTIPART_FORM_DATA_TYPE));
+        return processResponse(response, responseClass);
+    }
+
+    /**
+     * Call and get JSON object from HTTP POST method asynchronously
+     *
+     * @param requestMultipartForm
+     *            request DTO object
+     * @param responseClass
+     *            response class
+     * @param pathParams
+     *            The path parameters.
+     * @return completion stage of the response object cast to responseClass
+     */
+    public CompletionStage<RESPONSE> postMultipartJsonAsync(MultipartFormDataOutput requestMultipartForm, Class<RESPONSE> responseClass,
+            Object... pathParams) {
+        return postMultipartAsync(requestMultipartForm, responseClass, MediaType.MULTIPART_FORM_DATA_TYPE, pathParams);
+    }
+
+    /**
+     * Call and get XML object from HTTP POST method asynchronously
+     *
+     * @param requestMultipartForm
+     *            request DTO object
+     * @param responseClass
+     *            response class
+     * @param pathParams
+     *            The path parameters
+     * @return completion stage of the readed http body entity cast to responseClass
+     */
+    public CompletionStage<RESPONSE> postMultipartXmlAsync(MultipartFormDataOutput requestMultipartForm, Class<RESPONSE> responseClass,
+            Object... pathParams) {
+        return postMultipartAsync(requestMultipartForm, responseClass, MediaType.APPLICATION_XML_TYPE, pathParams);
+    }
+
+    /**
+     * Call and post HTTP multipart http request asynchronously. The call runs on the bounded async executor of the shared client, see
+     * {@link JaxrsClientCache}
+     *
+     * @param requestMultipartForm
+     *            request DTO object
+     * @param responseClass
+     *            response class
+     * @param responseMediaType
+     *            response media type
+     * @param pathParams
+     *            The path parameters
+     * @return completion stage of the readed http body entity cast to responseClass
+     */
+    public CompletionStage<RESPONSE> postMultipartAsync(MultipartFormDataOutput requestMultipartForm, Class<RESPONSE> responseClass,
+            MediaType responseMediaType, Object... pathParams) {
+        return createMultipartRequest(responseMediaType, pathParams).rx()
+                .post(Entity.entity(requestMultipartForm, MediaType.MULTIPART_FORM_DATA_TYPE))
+                .thenApply(response -> processResponse(response, responseClass));
+    }
+
+    /**
+     * Creates the HTTP multipart request
+     *
+     * @param responseMediaType
+     *            response media type
+     * @param pathParams
+     *            The path parameters
+     * @return customized JAXRS request builder
+     */
+    protected Invocation.Builder createMultipartRequest(MediaType responseMediaType, Object... pathParams) {
         UriBuilder uriBuilder = UriBuilder.fromUri(baseUri() + path());
         uriBuilder = uriBuilderCustomization(uriBuilder);
-        ResteasyWebTarget target = client.target(uriBuilder.build(pathParams));
-        target.register(MultipartFormDataWriter.class);
+        ResteasyWebTarget target = getClient().target(uriBuilder.build(pathParams));
         target.register(DefaultBaseExceptionResponseExceptionMapper.class);
-        filters.forEach(target::register);
+        registerFilters(target);
         // basic settings
         Invocation.Builder builder = target.request().accept(responseMediaType);
-        builder = clientBuilderCustomization(builder);
-        // Sending POST
-        Response response = builder.post(Entity.entity(requestMultipartForm, MediaType.MULTIPART_FORM_DATA_TYPE));
-        return processResponse(response, responseClass);
+        return clientBuilderCustomization(builder);
+    }
+
+    /**
+     * Registers the request filters, the call metrics filter (see {@link CallMetricsRegistry#isEnabled()}) and the record/replay filter (see
+     * {@link ReplayClientFilter#fromConfig()}), if enabled
+     *
+     * @param target
+     *            target of the call
+     */
+    protected void registerFilters(ResteasyWebTarget target) {
+        filters.forEach(target::register);
+        if (CallMetricsRegistry.isEnabled()) {
+            target.register(new MetricsClientFilter(baseUri() + path()));
+        }
+        ReplayClientFilter.fromConfig().ifPresent(target::register);
+    }
+
+    /**
+     * Shared JAX-RS client for the {@link #baseUri()}. The client is pooled and reused by every call, see {@link JaxrsClientCache}
+     *
+     * @return JAX-RS client
+     */
+    protected ResteasyClient getClient() {
+        return JaxrsClientCache.get(baseUri());
     }
 
     /**
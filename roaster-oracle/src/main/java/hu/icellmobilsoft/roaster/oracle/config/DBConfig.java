@@ -70,4 +70,81 @@ public interface DBConfig {
      */
     int getMaximumPoolSize() throws BaseException;
 
+    /**
+     * Returns the size of the driver implicit statement cache of a connection, 0 disables the cache
+     *
+     * @return the size of the driver implicit statement cache, default 50
+     * @throws BaseException
+     *             exception
+     */
+    default int getStatementCacheSize() throws BaseException {
+        return 50;
+    }
+
+    /**
+     * Returns the minimum number of idle connections of the connection pool
+     *
+     * @return the minimum number of idle connections of the connection pool, default the maximum pool size
+     * @throws BaseException
+     *             exception
+     */
+    default int getMinimumIdle() throws BaseException {
+        return getMaximumPoolSize();
+    }
+
+    /**
+     * Returns the maximum time in milliseconds to wait for a connection from the pool
+     *
+     * @return the maximum time in milliseconds to wait for a connection from the pool, default 30000
+     * @throws BaseException
+     *             exception
+     */
+    default long getConnectionTimeout() throws BaseException {
+        return 30000L;
+    }
+
+    /**
+     * Returns the maximum time in milliseconds a connection is allowed to sit idle in the pool
+     *
+     * @return the maximum time in milliseconds a connection is allowed to sit idle in the pool, default 600000
+     * @throws BaseException
+     *             exception
+     */
+    default long getIdleTimeout() throws BaseException {
+        return 600000L;
+    }
+
+    /**
+     * Returns the maximum lifetime in milliseconds of a connection in the pool
+     *
+     * @return the maximum lifetime in milliseconds of a connection in the pool, default 1800000
+     * @throws BaseException
+     *             exception
+     */
+    default long getMaxLifetime() throws BaseException {
+        return 1800000L;
+    }
+
+    /**
+     * Returns the time in milliseconds a connection can be out of the pool before a possible leak is logged, 0 disables the detection
+     *
+     * @return the time in milliseconds a connection can be out of the pool before a possible leak is logged, default 0
+     * @throws BaseException
+     *             exception
+     */
+    default long getLeakDetectionThreshold() throws BaseException {
+        return 0L;
+    }
+
+    /**
+     * Returns the number of rows the driver fetches in a round trip, if the statement fetch size is not set
+     *
+     * @return the number of rows the driver fetches in a round trip, default 10
+     * @throws BaseException
+     *             exception
+     */
+    default int getDefaultRowPrefetch() throws BaseException {
+        return 10;
+    }
+
 }
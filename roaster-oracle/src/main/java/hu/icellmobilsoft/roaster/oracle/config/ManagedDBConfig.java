@@ -40,6 +40,14 @@ import hu.icellmobilsoft.roaster.oracle.constatns.DBTypeEnum;
  *                  url: jdbc:oracle:thin:@ldap://ldap.sample.hu:389/SAMPLEDB,cn=OracleContext,dc=sample,dc=hu
  *                  user: user
  *                  password: *****
+ *                  maximumPoolSize: 5
+ *                  statementCacheSize: 50
+ *                  minimumIdle: 5
+ *                  connectionTimeout: 30000
+ *                  idleTimeout: 600000
+ *                  maxLifetime: 1800000
+ *                  leakDetectionThreshold: 0
+ *                  defaultRowPrefetch: 10
  * </pre>
  * <p>
  * The upper configuration is injectable with:
@@ -83,6 +91,34 @@ public class ManagedDBConfig implements DBConfig {
      * Constant {@value}
      */
     public static final String MAXIMUM_POOL_SIZE = "maximumPoolSize";
+    /**
+     * Constant {@value}
+     */
+    public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
+    /**
+     * Constant {@value}
+     */
+    public static final String MINIMUM_IDLE = "minimumIdle";
+    /**
+     * Constant {@value}
+     */
+    public static final String CONNECTION_TIMEOUT = "connectionTimeout";
+    /**
+     * Constant {@value}
+     */
+    public static final String IDLE_TIMEOUT = "idleTimeout";
+    /**
+     * Constant {@value}
+     */
+    public static final String MAX_LIFETIME = "maxLifetime";
+    /**
+     * Constant {@value}
+     */
+    public static final String LEAK_DETECTION_THRESHOLD = "leakDetectionThreshold";
+    /**
+     * Constant {@value}
+     */
+    public static final String DEFAULT_ROW_PREFETCH = "defaultRowPrefetch";
     /**
      * Constant <code>KEY_DELIMITER="."</code>
      */
@@ -135,6 +171,46 @@ public class ManagedDBConfig implements DBConfig {
         return config.getOptionalValue(joinKey(MAXIMUM_POOL_SIZE), Integer.class).orElse(5);
     }
 
+    @Override
+    public int getStatementCacheSize() {
+        return config.getOptionalValue(joinKey(STATEMENT_CACHE_SIZE), Integer.class).orElse(50);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Defaults to the maximum pool size, so the pool is fixed size.
+     */
+    @Override
+    public int getMinimumIdle() {
+        return config.getOptionalValue(joinKey(MINIMUM_IDLE), Integer.class).orElse(getMaximumPoolSize());
+    }
+
+    @Override
+    public long getConnectionTimeout() {
+        return config.getOptionalValue(joinKey(CONNECTION_TIMEOUT), Long.class).orElse(30000L);
+    }
+
+    @Override
+    public long getIdleTimeout() {
+        return config.getOptionalValue(joinKey(IDLE_TIMEOUT), Long.class).orElse(600000L);
+    }
+
+    @Override
+    public long getMaxLifetime() {
+        return config.getOptionalValue(joinKey(MAX_LIFETIME), Long.class).orElse(1800000L);
+    }
+
+    @Override
+    public long getLeakDetectionThreshold() {
+        return config.getOptionalValue(joinKey(LEAK_DETECTION_THRESHOLD), Long.class).orElse(0L);
+    }
+
+    @Override
+    public int getDefaultRowPrefetch() {
+        return config.getOptionalValue(joinKey(DEFAULT_ROW_PREFETCH), Integer.class).orElse(10);
+    }
+
     /**
      * Getter for the field {@code configKey}.
      *
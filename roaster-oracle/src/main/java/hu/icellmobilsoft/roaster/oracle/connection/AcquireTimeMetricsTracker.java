@@ -0,0 +1,94 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.connection;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Collects the connection acquire times and timeouts of a Hikari pool, without external metrics library
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+class AcquireTimeMetricsTracker implements IMetricsTracker, MetricsTrackerFactory {
+
+    private final LongAdder acquiredCount = new LongAdder();
+    private final LongAdder totalAcquireNanos = new LongAdder();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return this;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquiredCount.increment();
+        totalAcquireNanos.add(elapsedAcquiredNanos);
+        maxAcquireNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeoutCount.increment();
+    }
+
+    /**
+     * Number of the connections acquired from the pool.
+     *
+     * @return acquired connection count
+     */
+    long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    /**
+     * Sum of the connection acquire times.
+     *
+     * @return total acquire time in nanoseconds
+     */
+    long getTotalAcquireNanos() {
+        return totalAcquireNanos.sum();
+    }
+
+    /**
+     * The longest connection acquire time.
+     *
+     * @return max acquire time in nanoseconds
+     */
+    long getMaxAcquireNanos() {
+        return maxAcquireNanos.get();
+    }
+
+    /**
+     * Number of the connection requests which timed out ({@code connectionTimeout}).
+     *
+     * @return timeout count
+     */
+    long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+}
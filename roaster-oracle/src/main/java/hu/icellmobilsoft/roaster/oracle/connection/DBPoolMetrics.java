@@ -0,0 +1,154 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.connection;
+
+import java.time.Duration;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Snapshot of the connection pool statistics of a DB config key, see {@link JDBCConnection#getPoolMetrics()}. Pending threads and a growing
+ * acquire time show that the pool is too small for the parallel tests.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class DBPoolMetrics {
+
+    private final String poolName;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int pendingThreads;
+    private final long acquiredCount;
+    private final long timeoutCount;
+    private final Duration meanAcquireTime;
+    private final Duration maxAcquireTime;
+
+    /**
+     * Creates a snapshot of the statistics of the pool.
+     *
+     * @param poolName
+     *            name of the pool
+     * @param pool
+     *            the connection pool
+     * @param tracker
+     *            the acquire time tracker of the pool
+     */
+    DBPoolMetrics(String poolName, HikariPoolMXBean pool, AcquireTimeMetricsTracker tracker) {
+        this.poolName = poolName;
+        activeConnections = pool.getActiveConnections();
+        idleConnections = pool.getIdleConnections();
+        totalConnections = pool.getTotalConnections();
+        pendingThreads = pool.getThreadsAwaitingConnection();
+        acquiredCount = tracker.getAcquiredCount();
+        timeoutCount = tracker.getTimeoutCount();
+        meanAcquireTime = Duration.ofNanos(acquiredCount == 0 ? 0 : tracker.getTotalAcquireNanos() / acquiredCount);
+        maxAcquireTime = Duration.ofNanos(tracker.getMaxAcquireNanos());
+    }
+
+    /**
+     * Name of the pool, also used in JMX.
+     *
+     * @return pool name
+     */
+    public String getPoolName() {
+        return poolName;
+    }
+
+    /**
+     * Number of the connections in use.
+     *
+     * @return active connections
+     */
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    /**
+     * Number of the idle connections in the pool.
+     *
+     * @return idle connections
+     */
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    /**
+     * Number of all connections of the pool.
+     *
+     * @return total connections
+     */
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    /**
+     * Number of the threads waiting for a connection.
+     *
+     * @return pending threads
+     */
+    public int getPendingThreads() {
+        return pendingThreads;
+    }
+
+    /**
+     * Number of the connections acquired from the pool since its creation.
+     *
+     * @return acquired connection count
+     */
+    public long getAcquiredCount() {
+        return acquiredCount;
+    }
+
+    /**
+     * Number of the connection requests which timed out since the creation of the pool.
+     *
+     * @return timeout count
+     */
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    /**
+     * Mean time of acquiring a connection from the pool.
+     *
+     * @return mean acquire time
+     */
+    public Duration getMeanAcquireTime() {
+        return meanAcquireTime;
+    }
+
+    /**
+     * Longest time of acquiring a connection from the pool.
+     *
+     * @return max acquire time
+     */
+    public Duration getMaxAcquireTime() {
+        return maxAcquireTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "DBPoolMetrics[pool=%s, active=%d, idle=%d, total=%d, pending=%d, acquired=%d, timeouts=%d, meanAcquire=%dms, maxAcquire=%dms]", poolName, activeConnections, idleConnections, totalConnections, pendingThreads, acquiredCount, timeoutCount,
+                meanAcquireTime.toMillis(), maxAcquireTime.toMillis());
+    }
+}
@@ -24,6 +24,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.MessageFormat;
 import java.util.Objects;
+import java.util.Optional;
 
 import jakarta.enterprise.context.Dependent;
 
@@ -45,11 +46,15 @@ public class JDBCConnection implements Closeable {
 
     private static final String ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION = "Error occurred during DB connection! [{0}]";
     private static final String ERROR_MSG_DB_CONFIGURATION_NOT_SET = "DB configuration not set!";
+    private static final String ORACLE_IMPLICIT_STATEMENT_CACHE_SIZE = "oracle.jdbc.implicitStatementCacheSize";
+    private static final String ORACLE_DEFAULT_ROW_PREFETCH = "defaultRowPrefetch";
+    private static final String POOL_NAME_PREFIX = "roaster-oracle-";
 
     private final Logger log = Logger.getLogger(JDBCConnection.class);
 
     private ManagedDBConfig config;
     private HikariDataSource dataSource;
+    private AcquireTimeMetricsTracker metricsTracker;
 
     /**
      * Default constructor, constructs a new object.
@@ -91,7 +96,19 @@ public class JDBCConnection implements Closeable {
         hikariConfig.setJdbcUrl(config.getUrl());
         hikariConfig.setUsername(config.getUser());
         hikariConfig.setPassword(config.getPassword());
+        hikariConfig.setPoolName(POOL_NAME_PREFIX + config.getConfigKey());
         hikariConfig.setMaximumPoolSize(config.getMaximumPoolSize());
+        hikariConfig.setMinimumIdle(config.getMinimumIdle());
+        hikariConfig.setConnectionTimeout(config.getConnectionTimeout());
+        hikariConfig.setIdleTimeout(config.getIdleTimeout());
+        hikariConfig.setMaxLifetime(config.getMaxLifetime());
+        hikariConfig.setLeakDetectionThreshold(config.getLeakDetectionThreshold());
+        hikariConfig.setRegisterMbeans(true);
+        metricsTracker = new AcquireTimeMetricsTracker();
+        hikariConfig.setMetricsTrackerFactory(metricsTracker);
+        hikariConfig.addDataSourceProperty(ORACLE_DEFAULT_ROW_PREFETCH, String.valueOf(config.getDefaultRowPrefetch()));
+        // the driver caches the prepared statements per connection, so the repeated selects are not parsed again
+        hikariConfig.addDataSourceProperty(ORACLE_IMPLICIT_STATEMENT_CACHE_SIZE, String.valueOf(config.getStatementCacheSize()));
 
         return new HikariDataSource(hikariConfig);
     }
@@ -108,6 +125,19 @@ public class JDBCConnection implements Closeable {
         return this;
     }
 
+    /**
+     * Returns a snapshot of the connection pool statistics, if the pool is already created. The pool is registered in JMX as well, with the
+     * {@code roaster-oracle-<configKey>} pool name.
+     *
+     * @return the pool statistics, or empty if the pool is not created or closed
+     */
+    public Optional<DBPoolMetrics> getPoolMetrics() {
+        if (isClosed() || dataSource.getHikariPoolMXBean() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new DBPoolMetrics(dataSource.getPoolName(), dataSource.getHikariPoolMXBean(), metricsTracker));
+    }
+
     /**
      * Check connection is closed
      *
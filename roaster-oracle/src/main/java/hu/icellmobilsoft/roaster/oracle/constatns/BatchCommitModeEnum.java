@@ -0,0 +1,40 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.constatns;
+
+/**
+ * Transaction handling of the batch DB operations
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public enum BatchCommitModeEnum {
+
+    /**
+     * All batches are executed in one transaction, committed at the end, rolled back on any error
+     */
+    SINGLE_TRANSACTION,
+
+    /**
+     * Each batch is committed after its execution, on error only the failed batch is rolled back
+     */
+    PER_BATCH,
+    ;
+}
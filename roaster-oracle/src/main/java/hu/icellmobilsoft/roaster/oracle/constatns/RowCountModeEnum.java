@@ -0,0 +1,45 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.constatns;
+
+/**
+ * Strategies of counting the rows of a select statement
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public enum RowCountModeEnum {
+
+    /**
+     * {@link #COUNT_QUERY} if the statement can be wrapped, {@link #FORWARD_SCAN} otherwise
+     */
+    AUTO,
+
+    /**
+     * The statement is wrapped into {@code SELECT COUNT(*) FROM (...)}, the rows are counted by the DB
+     */
+    COUNT_QUERY,
+
+    /**
+     * The result set is read forward-only with a large fetch size and the rows are counted on client side without buffering them
+     */
+    FORWARD_SCAN,
+    ;
+}
@@ -37,9 +37,10 @@ import hu.icellmobilsoft.coffee.tool.utils.annotation.AnnotationUtil;
 import hu.icellmobilsoft.roaster.oracle.annotation.DBConnection;
 import hu.icellmobilsoft.roaster.oracle.connection.JDBCConnection;
 import hu.icellmobilsoft.roaster.oracle.service.OracleJDBCSelectorService;
+import hu.icellmobilsoft.roaster.oracle.service.OracleJDBCWriterService;
 
 /**
- * Producer for OracleJDBCService
+ * Producer for OracleJDBCSelectorService and OracleJDBCWriterService
  *
  * @author balazs.joo
  */
@@ -95,4 +96,44 @@ public class OracleJDBCServiceProducer {
         }
     }
 
+    /**
+     * Produces OracleJDBCWriterService for the DB connection specified by the given configKey
+     *
+     * @param injectionPoint
+     *            CDI injection point
+     * @return created object
+     * @throws BaseException
+     *             exception
+     */
+    @Dependent
+    @Produces
+    @DBConnection(configKey = "")
+    public OracleJDBCWriterService getOracleJDBCWriterService(InjectionPoint injectionPoint) throws BaseException {
+        Optional<DBConnection> annotation = AnnotationUtil.getAnnotation(injectionPoint, DBConnection.class);
+        String configKey = annotation.map(DBConnection::configKey)
+                .orElseThrow(() -> new BaseException(CoffeeFaultType.INVALID_INPUT, "configKey value not found!"));
+
+        JDBCConnection connection = CDI.current().select(JDBCConnection.class, new DBConnection.Literal(configKey)).get();
+        if (connection != null) {
+            log.trace("Creating OracleJDBCWriterService...");
+            OracleJDBCWriterService oracleJDBCWriterService = CDI.current().select(OracleJDBCWriterService.class).get();
+            oracleJDBCWriterService.setJdbcConnection(connection);
+            return oracleJDBCWriterService;
+        }
+        throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED,
+                MessageFormat.format("Error occurred while creating OracleJDBCWriterService for configKey [{0}]!", configKey));
+    }
+
+    /**
+     * Close connection when disposed
+     *
+     * @param oracleJDBCWriterService
+     *            disposed object
+     */
+    public void returnResource(@Disposes @DBConnection(configKey = "") OracleJDBCWriterService oracleJDBCWriterService) {
+        if (oracleJDBCWriterService != null) {
+            log.trace("Closing OracleJDBCWriterService...");
+        }
+    }
+
 }
@@ -0,0 +1,108 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import java.time.Duration;
+
+/**
+ * Result of {@link OracleJDBCWriterService#executeBatch(String, Iterable, int)}: the number of executed parameter sets and affected rows, and
+ * the achieved throughput.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class OracleJDBCBatchResult {
+
+    private final long rowCount;
+    private final long affectedRowCount;
+    private final int batchCount;
+    private final Duration duration;
+
+    /**
+     * Creates a new {@link OracleJDBCBatchResult} instance.
+     *
+     * @param rowCount
+     *            number of executed parameter sets
+     * @param affectedRowCount
+     *            number of rows affected in the DB
+     * @param batchCount
+     *            number of executed JDBC batches
+     * @param duration
+     *            time spent with the execution
+     */
+    public OracleJDBCBatchResult(long rowCount, long affectedRowCount, int batchCount, Duration duration) {
+        this.rowCount = rowCount;
+        this.affectedRowCount = affectedRowCount;
+        this.batchCount = batchCount;
+        this.duration = duration;
+    }
+
+    /**
+     * Number of executed parameter sets.
+     *
+     * @return row count
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Number of rows affected in the DB. A statement the driver reports as {@link java.sql.Statement#SUCCESS_NO_INFO} is counted as one row.
+     *
+     * @return affected row count
+     */
+    public long getAffectedRowCount() {
+        return affectedRowCount;
+    }
+
+    /**
+     * Number of executed JDBC batches.
+     *
+     * @return batch count
+     */
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Time spent with the execution.
+     *
+     * @return duration
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Achieved throughput.
+     *
+     * @return executed parameter sets per second
+     */
+    public double getRowsPerSecond() {
+        long nanos = Math.max(1, duration.toNanos());
+        return rowCount * 1_000_000_000d / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OracleJDBCBatchResult[rows=%d, affectedRows=%d, batches=%d, duration=%dms, rowsPerSecond=%.1f]", rowCount,
+                affectedRowCount, batchCount, duration.toMillis(), getRowsPerSecond());
+    }
+}
@@ -21,6 +21,7 @@ package hu.icellmobilsoft.roaster.oracle.service;
 
 import java.math.BigDecimal;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -29,6 +30,12 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.enterprise.context.Dependent;
 
@@ -38,10 +45,13 @@ import hu.icellmobilsoft.coffee.dto.exception.BONotFoundException;
 import hu.icellmobilsoft.coffee.dto.exception.TechnicalException;
 import hu.icellmobilsoft.coffee.dto.exception.enums.CoffeeFaultType;
 import hu.icellmobilsoft.coffee.se.api.exception.BaseException;
+import hu.icellmobilsoft.coffee.se.function.BaseExceptionConsumer;
 import hu.icellmobilsoft.coffee.se.function.BaseExceptionFunction;
 import hu.icellmobilsoft.coffee.se.function.BaseExceptionFunction2;
 import hu.icellmobilsoft.coffee.se.logging.Logger;
+import hu.icellmobilsoft.roaster.api.TestException;
 import hu.icellmobilsoft.roaster.oracle.connection.JDBCConnection;
+import hu.icellmobilsoft.roaster.oracle.constatns.RowCountModeEnum;
 
 /**
  * Class representing Oracle JDBC functionality
@@ -57,6 +67,25 @@ public class OracleJDBCSelectorService {
     private static final String ERROR_MSG_COLUMN_NAME_IS_BLANK = "Input parameter columnName is blank!";
     private static final String ERROR_MSG_CONVERTER_IS_NULL = "Input parameter converter is null!";
     private static final String ERROR_MSG_COULD_NOT_RETRIEVE_COLUMN_VALUE = "Could not retrieve column [{0}] value!";
+    private static final String ERROR_MSG_ROW_COUNT_MODE_IS_NULL = "Input parameter mode is null!";
+    private static final String ERROR_MSG_PARAMS_IS_NULL = "Input parameter params is null!";
+    private static final String ERROR_MSG_ROW_CONSUMER_IS_NULL = "Input parameter rowConsumer is null!";
+    private static final String ERROR_MSG_FETCH_SIZE_IS_NOT_POSITIVE = "Input parameter fetchSize [{0}] is not positive!";
+    private static final String ERROR_MSG_ERROR_OCCURRED_DURING_READING_ROWS = "Error occurred during reading rows!";
+    private static final String ERROR_MSG_ERROR_OCCURRED_DURING_CLOSING_RESOURCES = "Error occurred during closing DB resources!";
+
+    /**
+     * Default fetch size of the streaming operations ({@code streamAllObjects}, {@code forEachRow})
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /**
+     * Fetch size used by {@link RowCountModeEnum#FORWARD_SCAN} row counting
+     */
+    public static final int ROW_COUNT_FETCH_SIZE = 10000;
+
+    private static final String COUNT_QUERY_TEMPLATE = "SELECT COUNT(*) FROM ({0})";
+    private static final Pattern FOR_UPDATE_PATTERN = Pattern.compile("\\bFOR\\s+UPDATE\\b", Pattern.CASE_INSENSITIVE);
 
     private final Logger log = Logger.getLogger(OracleJDBCSelectorService.class);
 
@@ -81,7 +110,24 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public String selectFirstStringValue(String sql, String columnName) throws BaseException {
-        return getFirstValue(sql, columnName, this::getStringColumnValue);
+        return selectFirstStringValue(sql, List.of(), columnName);
+    }
+
+    /**
+     * Run parameterized sql select command, and return given column String value
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @param columnName
+     *            column name
+     * @return column String value
+     * @throws BaseException
+     *             exception
+     */
+    public String selectFirstStringValue(String sql, List<?> params, String columnName) throws BaseException {
+        return getFirstValue(sql, params, columnName, this::getStringColumnValue);
     }
 
     /**
@@ -96,7 +142,24 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public Integer selectFirstIntegerValue(String sql, String columnName) throws BaseException {
-        return getFirstValue(sql, columnName, this::getIntegerColumnValue);
+        return selectFirstIntegerValue(sql, List.of(), columnName);
+    }
+
+    /**
+     * Run parameterized sql select command, and return given column Integer value
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @param columnName
+     *            column name
+     * @return column Integer value
+     * @throws BaseException
+     *             exception
+     */
+    public Integer selectFirstIntegerValue(String sql, List<?> params, String columnName) throws BaseException {
+        return getFirstValue(sql, params, columnName, this::getIntegerColumnValue);
     }
 
     /**
@@ -111,7 +174,24 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public Boolean selectFirstBooleanValue(String sql, String columnName) throws BaseException {
-        return getFirstValue(sql, columnName, this::getBooleanColumnValue);
+        return selectFirstBooleanValue(sql, List.of(), columnName);
+    }
+
+    /**
+     * Run parameterized sql select command, and return given column Boolean value
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @param columnName
+     *            column name
+     * @return column Boolean value
+     * @throws BaseException
+     *             exception
+     */
+    public Boolean selectFirstBooleanValue(String sql, List<?> params, String columnName) throws BaseException {
+        return getFirstValue(sql, params, columnName, this::getBooleanColumnValue);
     }
 
     /**
@@ -126,7 +206,24 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public BigDecimal selectFirstBigDecimalValue(String sql, String columnName) throws BaseException {
-        return getFirstValue(sql, columnName, this::getBigDecimalColumnValue);
+        return selectFirstBigDecimalValue(sql, List.of(), columnName);
+    }
+
+    /**
+     * Run parameterized sql select command, and return given column BigDecimal value
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @param columnName
+     *            column name
+     * @return column BigDecimal value
+     * @throws BaseException
+     *             exception
+     */
+    public BigDecimal selectFirstBigDecimalValue(String sql, List<?> params, String columnName) throws BaseException {
+        return getFirstValue(sql, params, columnName, this::getBigDecimalColumnValue);
     }
 
     /**
@@ -141,11 +238,28 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public Date selectFirstDateValue(String sql, String columnName) throws BaseException {
-        return getFirstValue(sql, columnName, this::getDateColumnValue);
+        return selectFirstDateValue(sql, List.of(), columnName);
     }
 
     /**
-     * Run sql select command, and return row count
+     * Run parameterized sql select command, and return given column Date value
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @param columnName
+     *            column name
+     * @return column Date value
+     * @throws BaseException
+     *             exception
+     */
+    public Date selectFirstDateValue(String sql, List<?> params, String columnName) throws BaseException {
+        return getFirstValue(sql, params, columnName, this::getDateColumnValue);
+    }
+
+    /**
+     * Run sql select command, and return row count. Same as {@link #selectRowCount(String, RowCountModeEnum)} with {@link RowCountModeEnum#AUTO}.
      *
      * @param sql
      *            sql command
@@ -154,19 +268,93 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public Integer selectRowCount(String sql) throws BaseException {
+        return selectRowCount(sql, List.of(), RowCountModeEnum.AUTO);
+    }
+
+    /**
+     * Run parameterized sql select command, and return row count. Same as {@link #selectRowCount(String, List, RowCountModeEnum)} with
+     * {@link RowCountModeEnum#AUTO}.
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @return row count
+     * @throws BaseException
+     *             exception
+     */
+    public Integer selectRowCount(String sql, List<?> params) throws BaseException {
+        return selectRowCount(sql, params, RowCountModeEnum.AUTO);
+    }
+
+    /**
+     * Run sql select command, and return row count. Same as {@link #selectRowCount(String, List, RowCountModeEnum)} without parameters.
+     *
+     * @param sql
+     *            sql command
+     * @param mode
+     *            counting mode
+     * @return row count
+     * @throws BaseException
+     *             exception
+     */
+    public Integer selectRowCount(String sql, RowCountModeEnum mode) throws BaseException {
+        return selectRowCount(sql, List.of(), mode);
+    }
+
+    /**
+     * Run parameterized sql select command, and return row count. None of the rows are buffered on client side:
+     * <ul>
+     * <li>{@link RowCountModeEnum#COUNT_QUERY}: the statement is wrapped into {@code SELECT COUNT(*) FROM (...)}</li>
+     * <li>{@link RowCountModeEnum#FORWARD_SCAN}: the result set is read forward-only with {@value #ROW_COUNT_FETCH_SIZE} fetch size</li>
+     * <li>{@link RowCountModeEnum#AUTO}: {@code COUNT_QUERY}, except for statements which can not be used as inline view (ie.
+     * {@code FOR UPDATE})</li>
+     * </ul>
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @param mode
+     *            counting mode
+     * @return row count
+     * @throws BaseException
+     *             exception
+     */
+    public Integer selectRowCount(String sql, List<?> params, RowCountModeEnum mode) throws BaseException {
         if (StringUtils.isBlank(sql)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
         }
+        if (Objects.isNull(params)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_PARAMS_IS_NULL);
+        }
+        if (Objects.isNull(mode)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_ROW_COUNT_MODE_IS_NULL);
+        }
+        String selectSql = StringUtils.removeEnd(sql.strip(), ";");
+        if (mode == RowCountModeEnum.COUNT_QUERY || (mode == RowCountModeEnum.AUTO && !FOR_UPDATE_PATTERN.matcher(selectSql).find())) {
+            return countByQuery(selectSql, params);
+        }
+        return countByForwardScan(selectSql, params);
+    }
+
+    private Integer countByQuery(String sql, List<?> params) throws BaseException {
         try (Connection connection = jdbcConnection.getConnection();
-                Statement stmt = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
-                ResultSet rs = stmt.executeQuery(sql)) {
-            rs.last();
-            return rs.getRow();
+                PreparedStatement stmt = connection.prepareStatement(MessageFormat.format(COUNT_QUERY_TEMPLATE, sql))) {
+            PreparedStatementBinder.bind(stmt, params);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
         } catch (SQLException e) {
             throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED, ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION, e);
         }
     }
 
+    private Integer countByForwardScan(String sql, List<?> params) throws BaseException {
+        return Math.toIntExact(forEachRow(sql, params, rs -> {
+        }, ROW_COUNT_FETCH_SIZE));
+    }
+
     /**
      * Run sql select command, and return desired result object, converted by given converter
      * <p>
@@ -194,15 +382,50 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public <T> T selectFirstObject(String sql, BaseExceptionFunction<ResultSet, T> converter) throws BaseException {
+        return selectFirstObject(sql, List.of(), converter);
+    }
+
+    /**
+     * Run parameterized sql select command, and return desired result object, converted by given converter
+     * <p>
+     * Example for converter: <code>
+     * private T convert(ResultSet rs) {
+     * try {
+     * T t = new T();
+     * t.setId(rs.getString("X__ID"));
+     * t.setName(rs.getString("NAME"));
+     * return t;
+     * } catch (SQLException e) {
+     * return null;
+     * }
+     * }
+     * </code>
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @param converter
+     *            converter for desired result object
+     * @param <T>
+     *            type of return object
+     * @return converted object
+     * @throws BaseException
+     *             exception
+     */
+    public <T> T selectFirstObject(String sql, List<?> params, BaseExceptionFunction<ResultSet, T> converter) throws BaseException {
         if (StringUtils.isBlank(sql)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
         }
+        if (Objects.isNull(params)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_PARAMS_IS_NULL);
+        }
         if (Objects.isNull(converter)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_CONVERTER_IS_NULL);
         }
         try (Connection connection = jdbcConnection.getConnection();
-                Statement stmt = connection.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = connection.prepareStatement(sql);
+                ResultSet rs = executeQuery(stmt, params)) {
             if (rs.next()) {
                 return converter.apply(rs);
             } else {
@@ -240,15 +463,50 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public <T> List<T> selectAllObjects(String sql, BaseExceptionFunction<ResultSet, T> converter) throws BaseException {
+        return selectAllObjects(sql, List.of(), converter);
+    }
+
+    /**
+     * Run parameterized sql select command, and return list of desired result objects, converted by given converter
+     * <p>
+     * Example for converter: <code>
+     * private T convert(ResultSet rs) {
+     * try {
+     * T t = new T();
+     * t.setId(rs.getString("X__ID"));
+     * t.setName(rs.getString("NAME"));
+     * return t;
+     * } catch (SQLException e) {
+     * return null;
+     * }
+     * }
+     * </code>
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @param converter
+     *            converter for desired result objects
+     * @param <T>
+     *            type of return objects
+     * @return list of converted objects
+     * @throws BaseException
+     *             exception
+     */
+    public <T> List<T> selectAllObjects(String sql, List<?> params, BaseExceptionFunction<ResultSet, T> converter) throws BaseException {
         if (StringUtils.isBlank(sql)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
         }
+        if (Objects.isNull(params)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_PARAMS_IS_NULL);
+        }
         if (Objects.isNull(converter)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_CONVERTER_IS_NULL);
         }
         try (Connection connection = jdbcConnection.getConnection();
-                Statement stmt = connection.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = connection.prepareStatement(sql);
+                ResultSet rs = executeQuery(stmt, params)) {
             List<T> resultList = new ArrayList<>();
             while (rs.next()) {
                 resultList.add(converter.apply(rs));
@@ -259,17 +517,192 @@ public class OracleJDBCSelectorService {
         }
     }
 
-    private <T> T getFirstValue(String sql, String columnName, BaseExceptionFunction2<ResultSet, String, T> function)
+    /**
+     * Run sql select command, and return a lazily consumed stream of desired result objects, converted by given converter, with
+     * {@value #DEFAULT_FETCH_SIZE} fetch size. Same as {@link #streamAllObjects(String, BaseExceptionFunction, int)}.
+     *
+     * @param sql
+     *            sql command
+     * @param converter
+     *            converter for desired result objects
+     * @param <T>
+     *            type of return objects
+     * @return stream of converted objects, must be closed
+     * @throws BaseException
+     *             exception
+     */
+    public <T> Stream<T> streamAllObjects(String sql, BaseExceptionFunction<ResultSet, T> converter) throws BaseException {
+        return streamAllObjects(sql, converter, DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Run sql select command, and return a lazily consumed stream of desired result objects, converted by given converter. The rows are read
+     * forward-only, {@code fetchSize} rows in a round trip, only the currently fetched rows are held in memory.
+     * <p>
+     * The returned stream holds the DB connection until it is closed (or fully consumed), so it should be used in try-with-resources:
+     *
+     * <pre>
+     * try (Stream&lt;Example&gt; examples = service.streamAllObjects("SELECT * FROM EXAMPLE", exampleConverter::convert, 5000)) {
+     *     examples.forEach(this::verify);
+     * }
+     * </pre>
+     *
+     * Errors during the stream consumption are thrown as {@link TestException}.
+     *
+     * @param sql
+     *            sql command
+     * @param converter
+     *            converter for desired result objects
+     * @param fetchSize
+     *            number of rows fetched from the DB in a round trip
+     * @param <T>
+     *            type of return objects
+     * @return stream of converted objects, must be closed
+     * @throws BaseException
+     *             exception
+     */
+    public <T> Stream<T> streamAllObjects(String sql, BaseExceptionFunction<ResultSet, T> converter, int fetchSize) throws BaseException {
+        return streamAllObjects(sql, List.of(), converter, fetchSize);
+    }
+
+    /**
+     * Run parameterized sql select command, and return a lazily consumed stream of desired result objects, converted by given converter.
+     * Same as {@link #streamAllObjects(String, BaseExceptionFunction, int)} with bind parameters.
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @param converter
+     *            converter for desired result objects
+     * @param fetchSize
+     *            number of rows fetched from the DB in a round trip
+     * @param <T>
+     *            type of return objects
+     * @return stream of converted objects, must be closed
+     * @throws BaseException
+     *             exception
+     */
+    public <T> Stream<T> streamAllObjects(String sql, List<?> params, BaseExceptionFunction<ResultSet, T> converter, int fetchSize)
+            throws BaseException {
+        if (Objects.isNull(converter)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_CONVERTER_IS_NULL);
+        }
+        ResultSetSpliterator<T> spliterator = new ResultSetSpliterator<>(openForwardOnly(sql, params, fetchSize), converter);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Run sql select command, and call the given consumer for each row, with {@value #DEFAULT_FETCH_SIZE} fetch size. Same as
+     * {@link #forEachRow(String, BaseExceptionConsumer, int)}.
+     *
+     * @param sql
+     *            sql command
+     * @param rowConsumer
+     *            consumer called with the result set positioned to the current row
+     * @return number of processed rows
+     * @throws BaseException
+     *             exception
+     */
+    public long forEachRow(String sql, BaseExceptionConsumer<ResultSet> rowConsumer) throws BaseException {
+        return forEachRow(sql, rowConsumer, DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Run sql select command, and call the given consumer for each row. The rows are read forward-only, {@code fetchSize} rows in a round trip,
+     * only the currently fetched rows are held in memory.
+     *
+     * @param sql
+     *            sql command
+     * @param rowConsumer
+     *            consumer called with the result set positioned to the current row
+     * @param fetchSize
+     *            number of rows fetched from the DB in a round trip
+     * @return number of processed rows
+     * @throws BaseException
+     *             exception
+     */
+    public long forEachRow(String sql, BaseExceptionConsumer<ResultSet> rowConsumer, int fetchSize) throws BaseException {
+        return forEachRow(sql, List.of(), rowConsumer, fetchSize);
+    }
+
+    /**
+     * Run parameterized sql select command, and call the given consumer for each row. Same as
+     * {@link #forEachRow(String, BaseExceptionConsumer, int)} with bind parameters.
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @param rowConsumer
+     *            consumer called with the result set positioned to the current row
+     * @param fetchSize
+     *            number of rows fetched from the DB in a round trip
+     * @return number of processed rows
+     * @throws BaseException
+     *             exception
+     */
+    public long forEachRow(String sql, List<?> params, BaseExceptionConsumer<ResultSet> rowConsumer, int fetchSize) throws BaseException {
+        if (Objects.isNull(rowConsumer)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_ROW_CONSUMER_IS_NULL);
+        }
+        try (ForwardOnlyResult result = openForwardOnly(sql, params, fetchSize)) {
+            long rowCount = 0;
+            while (result.resultSet().next()) {
+                rowConsumer.accept(result.resultSet());
+                rowCount++;
+            }
+            return rowCount;
+        } catch (SQLException e) {
+            throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED, ERROR_MSG_ERROR_OCCURRED_DURING_READING_ROWS, e);
+        }
+    }
+
+    private ForwardOnlyResult openForwardOnly(String sql, List<?> params, int fetchSize) throws BaseException {
+        if (StringUtils.isBlank(sql)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
+        }
+        if (Objects.isNull(params)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_PARAMS_IS_NULL);
+        }
+        if (fetchSize < 1) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, MessageFormat.format(ERROR_MSG_FETCH_SIZE_IS_NOT_POSITIVE, fetchSize));
+        }
+        Connection connection = jdbcConnection.getConnection();
+        PreparedStatement stmt = null;
+        try {
+            stmt = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(fetchSize);
+            return new ForwardOnlyResult(connection, stmt, executeQuery(stmt, params));
+        } catch (SQLException e) {
+            try {
+                new ForwardOnlyResult(connection, stmt, null).close();
+            } catch (SQLException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED, ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION, e);
+        }
+    }
+
+    private ResultSet executeQuery(PreparedStatement stmt, List<?> params) throws SQLException {
+        PreparedStatementBinder.bind(stmt, params);
+        return stmt.executeQuery();
+    }
+
+    private <T> T getFirstValue(String sql, List<?> params, String columnName, BaseExceptionFunction2<ResultSet, String, T> function)
             throws BaseException {
         if (StringUtils.isBlank(sql)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
         }
+        if (Objects.isNull(params)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_PARAMS_IS_NULL);
+        }
         if (StringUtils.isBlank(columnName)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_COLUMN_NAME_IS_BLANK);
         }
         try (Connection connection = jdbcConnection.getConnection();
-                Statement stmt = connection.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = connection.prepareStatement(sql);
+                ResultSet rs = executeQuery(stmt, params)) {
             if (rs.next()) {
                 return function.apply(rs, columnName);
             } else {
@@ -343,4 +776,64 @@ public class OracleJDBCSelectorService {
     public void setJdbcConnection(JDBCConnection jdbcConnection) {
         this.jdbcConnection = jdbcConnection;
     }
+
+    /**
+     * Resources of an opened forward-only result set, closed in reverse order of opening
+     */
+    private record ForwardOnlyResult(Connection connection, Statement statement, ResultSet resultSet) implements AutoCloseable {
+
+        @Override
+        public void close() throws SQLException {
+            try (connection; statement; resultSet) {
+                // closed by try-with-resources
+            }
+        }
+    }
+
+    /**
+     * Spliterator converting the rows of a forward-only result set lazily, the result set is closed when exhausted
+     */
+    private final class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final ForwardOnlyResult result;
+        private final BaseExceptionFunction<ResultSet, T> converter;
+        private boolean closed;
+
+        private ResultSetSpliterator(ForwardOnlyResult result, BaseExceptionFunction<ResultSet, T> converter) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.result = result;
+            this.converter = converter;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (result.resultSet().next()) {
+                    action.accept(converter.apply(result.resultSet()));
+                    return true;
+                }
+            } catch (SQLException | BaseException e) {
+                close();
+                throw new TestException(ERROR_MSG_ERROR_OCCURRED_DURING_READING_ROWS, e);
+            }
+            close();
+            return false;
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                result.close();
+            } catch (SQLException e) {
+                log.error(ERROR_MSG_ERROR_OCCURRED_DURING_CLOSING_RESOURCES, e);
+                throw new TestException(ERROR_MSG_ERROR_OCCURRED_DURING_CLOSING_RESOURCES, e);
+            }
+        }
+    }
 }
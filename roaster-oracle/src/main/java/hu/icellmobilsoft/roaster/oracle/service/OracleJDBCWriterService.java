@@ -0,0 +1,252 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.apache.commons.lang3.StringUtils;
+
+import hu.icellmobilsoft.coffee.dto.exception.TechnicalException;
+import hu.icellmobilsoft.coffee.dto.exception.enums.CoffeeFaultType;
+import hu.icellmobilsoft.coffee.se.api.exception.BaseException;
+import hu.icellmobilsoft.coffee.se.logging.Logger;
+import hu.icellmobilsoft.roaster.oracle.connection.JDBCConnection;
+import hu.icellmobilsoft.roaster.oracle.constatns.BatchCommitModeEnum;
+
+/**
+ * Class representing Oracle JDBC insert, update and delete functionality, ie. for seeding test data
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+@Dependent
+public class OracleJDBCWriterService {
+
+    private static final String ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION = "Error occurred during DB connection!";
+    private static final String ERROR_MSG_SQL_STRING_IS_BLANK = "Input parameter SQL string is blank!";
+    private static final String ERROR_MSG_PARAMS_IS_NULL = "Input parameter params is null!";
+    private static final String ERROR_MSG_PARAMS_LIST_IS_NULL = "Input parameter paramsList is null!";
+    private static final String ERROR_MSG_PARAMS_OF_ROW_IS_NULL = "Parameters of row [{0}] are null!";
+    private static final String ERROR_MSG_BATCH_SIZE_IS_NOT_POSITIVE = "Input parameter batchSize [{0}] is not positive!";
+    private static final String ERROR_MSG_COMMIT_MODE_IS_NULL = "Input parameter commitMode is null!";
+
+    /**
+     * Default number of parameter sets sent to the DB in a JDBC batch
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final Logger log = Logger.getLogger(OracleJDBCWriterService.class);
+
+    private JDBCConnection jdbcConnection;
+
+    /**
+     * Default constructor, constructs a new object.
+     */
+    public OracleJDBCWriterService() {
+        super();
+    }
+
+    /**
+     * Run parameterized sql insert, update or delete command in auto-commit mode, and return the number of affected rows
+     *
+     * @param sql
+     *            sql command
+     * @param params
+     *            bind parameters of the {@code ?} placeholders, in order
+     * @return number of affected rows
+     * @throws BaseException
+     *             exception
+     */
+    public int executeUpdate(String sql, List<?> params) throws BaseException {
+        if (StringUtils.isBlank(sql)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
+        }
+        if (Objects.isNull(params)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_PARAMS_IS_NULL);
+        }
+        try (Connection connection = jdbcConnection.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            PreparedStatementBinder.bind(stmt, params);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED, ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION, e);
+        }
+    }
+
+    /**
+     * Run parameterized sql insert, update or delete command for each parameter set with JDBC batching, {@value #DEFAULT_BATCH_SIZE} parameter
+     * sets in a batch, in one transaction. Same as {@link #executeBatch(String, Iterable, int, BatchCommitModeEnum)}.
+     *
+     * @param sql
+     *            sql command
+     * @param paramsList
+     *            bind parameters of the {@code ?} placeholders for each execution
+     * @return batch execution result
+     * @throws BaseException
+     *             exception
+     */
+    public OracleJDBCBatchResult executeBatch(String sql, Iterable<? extends List<?>> paramsList) throws BaseException {
+        return executeBatch(sql, paramsList, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Run parameterized sql insert, update or delete command for each parameter set with JDBC batching, in one transaction. Same as
+     * {@link #executeBatch(String, Iterable, int, BatchCommitModeEnum)} with {@link BatchCommitModeEnum#SINGLE_TRANSACTION}.
+     *
+     * @param sql
+     *            sql command
+     * @param paramsList
+     *            bind parameters of the {@code ?} placeholders for each execution
+     * @param batchSize
+     *            number of parameter sets sent to the DB in a batch
+     * @return batch execution result
+     * @throws BaseException
+     *             exception
+     */
+    public OracleJDBCBatchResult executeBatch(String sql, Iterable<? extends List<?>> paramsList, int batchSize) throws BaseException {
+        return executeBatch(sql, paramsList, batchSize, BatchCommitModeEnum.SINGLE_TRANSACTION);
+    }
+
+    /**
+     * Run parameterized sql insert, update or delete command for each parameter set with JDBC batching. The parameter sets are iterated lazily,
+     * only one batch is held in memory, so ie. a {@code Stream::iterator} of generated fixture rows can be loaded as well.
+     *
+     * <pre>
+     * OracleJDBCBatchResult result = writerService.executeBatch("INSERT INTO EXAMPLE (X__ID, NAME) VALUES (?, ?)",
+     *         () -&gt; IntStream.range(0, 1_000_000).&lt;List&lt;?&gt;&gt; mapToObj(i -&gt; List.of(String.valueOf(i), "name" + i)).iterator(), 5000);
+     * </pre>
+     *
+     * @param sql
+     *            sql command
+     * @param paramsList
+     *            bind parameters of the {@code ?} placeholders for each execution
+     * @param batchSize
+     *            number of parameter sets sent to the DB in a batch
+     * @param commitMode
+     *            transaction handling of the batches
+     * @return batch execution result
+     * @throws BaseException
+     *             exception
+     */
+    public OracleJDBCBatchResult executeBatch(String sql, Iterable<? extends List<?>> paramsList, int batchSize, BatchCommitModeEnum commitMode)
+            throws BaseException {
+        if (StringUtils.isBlank(sql)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
+        }
+        if (Objects.isNull(paramsList)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_PARAMS_LIST_IS_NULL);
+        }
+        if (batchSize < 1) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, MessageFormat.format(ERROR_MSG_BATCH_SIZE_IS_NOT_POSITIVE, batchSize));
+        }
+        if (Objects.isNull(commitMode)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_COMMIT_MODE_IS_NULL);
+        }
+        long start = System.nanoTime();
+        try (Connection connection = jdbcConnection.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                long rowCount = 0;
+                long affectedRowCount = 0;
+                int batchCount = 0;
+                int pendingCount = 0;
+                for (List<?> params : paramsList) {
+                    if (Objects.isNull(params)) {
+                        throw new BaseException(CoffeeFaultType.INVALID_INPUT, MessageFormat.format(ERROR_MSG_PARAMS_OF_ROW_IS_NULL, rowCount));
+                    }
+                    PreparedStatementBinder.bind(stmt, params);
+                    stmt.addBatch();
+                    rowCount++;
+                    if (++pendingCount == batchSize) {
+                        affectedRowCount += flush(connection, stmt, commitMode);
+                        batchCount++;
+                        pendingCount = 0;
+                    }
+                }
+                if (pendingCount > 0) {
+                    affectedRowCount += flush(connection, stmt, commitMode);
+                    batchCount++;
+                }
+                connection.commit();
+                OracleJDBCBatchResult result = new OracleJDBCBatchResult(rowCount, affectedRowCount, batchCount,
+                        Duration.ofNanos(System.nanoTime() - start));
+                log.info("Executed [{0}] rows in [{1}] batches, [{2}] rows affected in [{3}]ms, [{4}] rows/sec", result.getRowCount(),
+                        result.getBatchCount(), result.getAffectedRowCount(), result.getDuration().toMillis(),
+                        Math.round(result.getRowsPerSecond()));
+                return result;
+            } catch (Exception e) {
+                // any error (ie. from the paramsList iterator) is rolled back, restoring the auto-commit would commit the open transaction
+                rollback(connection, e);
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED, ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION, e);
+        }
+    }
+
+    private long flush(Connection connection, PreparedStatement stmt, BatchCommitModeEnum commitMode) throws SQLException {
+        long affectedRowCount = 0;
+        for (int updateCount : stmt.executeBatch()) {
+            affectedRowCount += updateCount == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, updateCount);
+        }
+        if (commitMode == BatchCommitModeEnum.PER_BATCH) {
+            connection.commit();
+        }
+        return affectedRowCount;
+    }
+
+    private void rollback(Connection connection, Exception cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Getter for the field {@code jdbcConnection}.
+     *
+     * @return jdbcConnection
+     */
+    protected JDBCConnection getJdbcConnection() {
+        return jdbcConnection;
+    }
+
+    /**
+     * Sets the new jdbcConnection value
+     *
+     * @param jdbcConnection
+     *            new jdbcConnection value
+     */
+    public void setJdbcConnection(JDBCConnection jdbcConnection) {
+        this.jdbcConnection = jdbcConnection;
+    }
+}
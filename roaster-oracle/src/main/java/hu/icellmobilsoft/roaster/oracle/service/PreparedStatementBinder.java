@@ -0,0 +1,66 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Binds the parameters of the {@code ?} placeholders of a {@link PreparedStatement}
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+final class PreparedStatementBinder {
+
+    private PreparedStatementBinder() {
+    }
+
+    /**
+     * Binds the given parameters to the placeholders in order. {@code null} is bound as SQL NULL, plain {@link Date} as
+     * {@link Timestamp}, everything else with {@link PreparedStatement#setObject(int, Object)}.
+     *
+     * @param stmt
+     *            prepared statement
+     * @param params
+     *            parameters in the order of the placeholders
+     * @throws SQLException
+     *             if a parameter can not be bound
+     */
+    static void bind(PreparedStatement stmt, List<?> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            bind(stmt, i + 1, params.get(i));
+        }
+    }
+
+    private static void bind(PreparedStatement stmt, int index, Object param) throws SQLException {
+        if (param == null) {
+            stmt.setNull(index, Types.VARCHAR);
+        } else if (param.getClass() == Date.class) {
+            stmt.setTimestamp(index, new Timestamp(((Date) param).getTime()));
+        } else {
+            stmt.setObject(index, param);
+        }
+    }
+}
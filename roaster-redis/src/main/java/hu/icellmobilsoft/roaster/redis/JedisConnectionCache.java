@@ -19,21 +19,40 @@
  */
 package hu.icellmobilsoft.roaster.redis;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import redis.clients.jedis.ConnectionPoolConfig;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.JedisSentineled;
 import redis.clients.jedis.UnifiedJedis;
 
 /**
- * Cache for jedis connections based on {@link RedisConfig} keys.
+ * Cache for jedis connections based on {@link RedisConfig} keys. Depending on {@link RedisConfig#getMode()} the cached instance is a
+ * {@link JedisPooled}, a {@link JedisSentineled} or a {@link JedisCluster}, used through the same {@link UnifiedJedis} API.
+ * <p>
+ * {@link #get(String)} is a map lookup, the mode, the nodes, the host, port and database of the configuration key are read again at most once
+ * in {@link RedisConfig#getConfigCheckMillis()}, and the instance is re-created (the previous one is closed) if they have changed, for example
+ * a new Testcontainers REDIS instance is configured, so no pool to a stopped container is kept. {@link #refresh(String)} does the same check
+ * immediately. The instances can be closed explicitly with {@link #close(String)} and {@link #closeAll()}, after every test class with
+ * {@link JedisConnectionCacheExtension}, and they are closed by a JVM shutdown hook; the next {@link #get(String)} reads the configuration
+ * again.
  *
  * @author martin.nagy
  * @since 2.7.0
  */
 public class JedisConnectionCache {
-    private static final Map<String, UnifiedJedis> JEDIS_BY_CONFIG_KEY = new ConcurrentHashMap<>();
+    private static final Map<String, CachedJedis> JEDIS_BY_CONFIG_KEY = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(JedisConnectionCache::closeAll, "roaster-redis-shutdown"));
+    }
 
     /**
      * Private constructor to prevent instantiation.
@@ -43,19 +62,124 @@ public class JedisConnectionCache {
 
     /**
      * Retrieves a {@link UnifiedJedis} instance associated with the provided configuration key. If no instance exists for the given key, a new
-     * {@link UnifiedJedis} instance is created based on the corresponding {@link RedisConfig}.
+     * {@link UnifiedJedis} instance is created based on the corresponding {@link RedisConfig}. If {@link RedisConfig#getConfigCheckMillis()} has
+     * elapsed since the last check, the configuration is checked with {@link #refresh(String)}.
      *
      * @param configKey
      *            the configuration key used to retrieve or create a {@link UnifiedJedis} instance
      * @return the {@link UnifiedJedis} instance associated with the given configuration key
      */
     public static UnifiedJedis get(String configKey) {
-        return JEDIS_BY_CONFIG_KEY.computeIfAbsent(configKey, key -> createJedisPooled(new RedisConfig(configKey)));
+        CachedJedis cached = JEDIS_BY_CONFIG_KEY.get(configKey);
+        if (cached == null) {
+            return JEDIS_BY_CONFIG_KEY.computeIfAbsent(configKey, key -> createCachedJedis(new RedisConfig(key), key)).jedis;
+        }
+        // only one of the concurrent callers checks the configuration, the others use the current instance
+        return cached.claimConfigCheck() ? refresh(configKey) : cached.jedis;
+    }
+
+    /**
+     * Reads the configuration of the key again, and re-creates its {@link UnifiedJedis} instance (and closes the {@link RedisNearCache}) if the
+     * mode, the nodes, the host, port or database has changed, ie. after a connection error or a new REDIS instance.
+     *
+     * @param configKey
+     *            the configuration key
+     * @return the current {@link UnifiedJedis} instance associated with the given configuration key
+     */
+    public static UnifiedJedis refresh(String configKey) {
+        RedisConfig config = new RedisConfig(configKey);
+        String address = getAddress(config);
+        CachedJedis[] replaced = new CachedJedis[1];
+        CachedJedis cached = JEDIS_BY_CONFIG_KEY.compute(configKey, (key, current) -> {
+            if (current != null && current.address.equals(address)) {
+                return current;
+            }
+            replaced[0] = current;
+            return createCachedJedis(config, key);
+        });
+        if (replaced[0] != null) {
+            replaced[0].jedis.close();
+            RedisNearCache.close(configKey);
+        }
+        return cached.jedis;
+    }
+
+    /**
+     * Closes and removes the {@link UnifiedJedis} instance (and the {@link RedisNearCache}) of the configuration key. The next {@link #get(String)}
+     * creates a new instance.
+     *
+     * @param configKey
+     *            the configuration key
+     */
+    public static void close(String configKey) {
+        CachedJedis cached = JEDIS_BY_CONFIG_KEY.remove(configKey);
+        if (cached != null) {
+            cached.jedis.close();
+        }
+        RedisNearCache.close(configKey);
+    }
+
+    /**
+     * Closes and removes every cached {@link UnifiedJedis} instance (and {@link RedisNearCache}).
+     */
+    public static void closeAll() {
+        JEDIS_BY_CONFIG_KEY.keySet().forEach(JedisConnectionCache::close);
+        RedisNearCache.closeAll();
+    }
+
+    /**
+     * Returns a snapshot of the connection pool statistics of the configuration key, if its {@link UnifiedJedis} instance is already created. Only
+     * the {@link RedisMode#STANDALONE} mode has a single pool to report.
+     *
+     * @param configKey
+     *            the configuration key
+     * @return the pool statistics, or empty if there is no pooled standalone instance for the configuration key
+     */
+    public static Optional<RedisPoolMetrics> getPoolMetrics(String configKey) {
+        CachedJedis cached = JEDIS_BY_CONFIG_KEY.get(configKey);
+        if (cached != null && cached.jedis instanceof JedisPooled jedisPooled) {
+            return Optional.of(new RedisPoolMetrics(configKey, jedisPooled.getPool()));
+        }
+        return Optional.empty();
+    }
+
+    private static CachedJedis createCachedJedis(RedisConfig config, String configKey) {
+        return new CachedJedis(createJedis(config, configKey), getAddress(config), TimeUnit.MILLISECONDS.toNanos(config.getConfigCheckMillis()));
     }
 
-    private static JedisPooled createJedisPooled(RedisConfig config) {
+    private static String getAddress(RedisConfig config) {
+        RedisMode mode = config.getMode();
+        String nodes = mode == RedisMode.STANDALONE ? config.getHost() + ":" + config.getPort() : config.getNodes().toString();
+        return mode + " " + nodes + "/" + config.getDatabase();
+    }
+
+    private static UnifiedJedis createJedis(RedisConfig config, String configKey) {
+        switch (config.getMode()) {
+        case CLUSTER:
+            // a cluster has only the database 0
+            return new JedisCluster(
+                    config.getNodes(),
+                    DefaultJedisClientConfig.builder().timeoutMillis(config.getTimeout()).password(config.getPassword()).build(),
+                    getConnectionPoolConfig(config, configKey));
+        case SENTINEL:
+            return new JedisSentineled(
+                    config.getSentinelMaster(),
+                    DefaultJedisClientConfig.builder()
+                            .timeoutMillis(config.getTimeout())
+                            .password(config.getPassword())
+                            .database(config.getDatabase())
+                            .build(),
+                    getConnectionPoolConfig(config, configKey),
+                    config.getNodes(),
+                    DefaultJedisClientConfig.builder().timeoutMillis(config.getTimeout()).build());
+        default:
+            return createJedisPooled(config, configKey);
+        }
+    }
+
+    private static JedisPooled createJedisPooled(RedisConfig config, String configKey) {
         return new JedisPooled(
-                getConnectionPoolConfig(config),
+                getConnectionPoolConfig(config, configKey),
                 config.getHost(),
                 config.getPort(),
                 config.getTimeout(),
@@ -63,10 +187,37 @@ public class JedisConnectionCache {
                 config.getDatabase());
     }
 
-    private static ConnectionPoolConfig getConnectionPoolConfig(RedisConfig config) {
+    private static ConnectionPoolConfig getConnectionPoolConfig(RedisConfig config, String configKey) {
         ConnectionPoolConfig poolConfig = new ConnectionPoolConfig();
         poolConfig.setMaxTotal(config.getPoolMaxTotal());
         poolConfig.setMaxIdle(config.getPoolMaxIdle());
+        poolConfig.setMinIdle(config.getPoolMinIdle());
+        poolConfig.setMaxWait(Duration.ofMillis(config.getPoolMaxWaitMillis()));
+        poolConfig.setTestOnBorrow(config.isPoolTestOnBorrow());
+        poolConfig.setTimeBetweenEvictionRuns(Duration.ofMillis(config.getPoolTimeBetweenEvictionRunsMillis()));
+        poolConfig.setBlockWhenExhausted(config.isPoolBlockWhenExhausted());
+        // the pool statistics are also visible in JMX, named by the config key
+        poolConfig.setJmxNamePrefix("roaster-redis-" + configKey);
         return poolConfig;
     }
+
+    private static final class CachedJedis {
+        private final UnifiedJedis jedis;
+        private final String address;
+        private final long configCheckNanos;
+        private final AtomicLong nextConfigCheckNanos;
+
+        private CachedJedis(UnifiedJedis jedis, String address, long configCheckNanos) {
+            this.jedis = jedis;
+            this.address = address;
+            this.configCheckNanos = configCheckNanos;
+            nextConfigCheckNanos = new AtomicLong(System.nanoTime() + configCheckNanos);
+        }
+
+        private boolean claimConfigCheck() {
+            long now = System.nanoTime();
+            long next = nextConfigCheckNanos.get();
+            return now - next >= 0 && nextConfigCheckNanos.compareAndSet(next, now + configCheckNanos);
+        }
+    }
 }
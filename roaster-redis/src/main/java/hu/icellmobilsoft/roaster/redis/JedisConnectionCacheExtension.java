@@ -0,0 +1,51 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Closes every connection pool of {@link JedisConnectionCache} after the test class, so the pools and threads of the REDIS containers started
+ * for the test class do not remain open.
+ *
+ * <pre>
+ * &#64;ExtendWith(JedisConnectionCacheExtension.class)
+ * class RedisIT {
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class JedisConnectionCacheExtension implements AfterAllCallback {
+
+    /**
+     * Default constructor
+     */
+    public JedisConnectionCacheExtension() {
+        // empty
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) throws Exception {
+        JedisConnectionCache.closeAll();
+    }
+}
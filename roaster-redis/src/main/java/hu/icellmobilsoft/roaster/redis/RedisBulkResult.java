@@ -0,0 +1,124 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-key outcome of a bulk REDIS operation: the successfully processed keys with their values, the keys not found and the failed keys with
+ * their exceptions.
+ *
+ * @param <T>
+ *            value type, the read object or the status code reply of a write
+ * @author agent
+ * @since 2.8.0
+ */
+public class RedisBulkResult<T> {
+
+    private final Map<String, T> values = new LinkedHashMap<>();
+    private final List<String> missingKeys = new ArrayList<>();
+    private final Map<String, Exception> failures = new LinkedHashMap<>();
+
+    /**
+     * Default constructor, constructs a new object.
+     */
+    public RedisBulkResult() {
+        super();
+    }
+
+    /**
+     * Adds a successfully processed key
+     *
+     * @param key
+     *            REDIS key
+     * @param value
+     *            read value or status code reply
+     */
+    void addValue(String key, T value) {
+        values.put(key, value);
+    }
+
+    /**
+     * Adds a key not found in REDIS
+     *
+     * @param key
+     *            REDIS key
+     */
+    void addMissingKey(String key) {
+        missingKeys.add(key);
+    }
+
+    /**
+     * Adds a failed key
+     *
+     * @param key
+     *            REDIS key
+     * @param exception
+     *            cause of the failure, like a (de)serialization or a REDIS error
+     */
+    void addFailure(String key, Exception exception) {
+        failures.put(key, exception);
+    }
+
+    /**
+     * Successfully processed keys with the read values or the status code replies, in the order of processing
+     *
+     * @return values by key, unmodifiable
+     */
+    public Map<String, T> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Keys not found in REDIS
+     *
+     * @return missing keys, unmodifiable
+     */
+    public List<String> getMissingKeys() {
+        return Collections.unmodifiableList(missingKeys);
+    }
+
+    /**
+     * Failed keys with the cause of the failure
+     *
+     * @return exceptions by key, unmodifiable
+     */
+    public Map<String, Exception> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Whether every key was processed successfully
+     *
+     * @return {@code true} if there is no missing and no failed key
+     */
+    public boolean isAllSuccessful() {
+        return missingKeys.isEmpty() && failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "RedisBulkResult [successful=" + values.size() + ", missing=" + missingKeys.size() + ", failed=" + failures.keySet() + "]";
+    }
+}
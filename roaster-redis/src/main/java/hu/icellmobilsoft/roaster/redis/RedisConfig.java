@@ -19,9 +19,16 @@
  */
 package hu.icellmobilsoft.roaster.redis;
 
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 
+import redis.clients.jedis.HostAndPort;
+
 /**
  * Helper class for obtaining redis connection settings using microprofile config.<br>
  * General pattern is "{@code roaster.redis.${configKey}.${setting}}
@@ -36,10 +43,30 @@ import org.eclipse.microprofile.config.ConfigProvider;
  *        port: 6380
  *        password: ****
  *        database: 1
+ *        mode: standalone
+ *        nodes: sample-sandbox.icellmobilsoft.hu:6380,sample-sandbox.icellmobilsoft.hu:6381
+ *        sentinelMaster: mymaster
+ *        configCheckMillis: 1000
+ *        bulkChunkSize: 1000
+ *        codec: json
+ *        compression: none
+ *        nearCache:
+ *          enabled: false
+ *          maxSize: 1000
+ *          ttlMillis: 60000
+ *          connections: 4
+ *        streamConsumer:
+ *          count: 100
+ *          blockMillis: 1000
  *        pool:
  *          default:
  *            maxtotal: 64
  *            maxidle: 16
+ *            minidle: 0
+ *            maxwait: -1
+ *            testonborrow: false
+ *            timebetweenevictionruns: 30000
+ *            blockwhenexhausted: true
  *          custom1:
  *            maxtotal: 128
  *            maxidle: 32
@@ -74,6 +101,18 @@ public class RedisConfig implements hu.icellmobilsoft.coffee.module.redis.config
      * Constant <code>DATABASE="database"</code>
      */
     public static final String DATABASE = "database";
+    /**
+     * Constant <code>MODE="mode"</code>
+     */
+    public static final String MODE = "mode";
+    /**
+     * Constant <code>NODES="nodes"</code>
+     */
+    public static final String NODES = "nodes";
+    /**
+     * Constant <code>SENTINEL_MASTER="sentinelMaster"</code>
+     */
+    public static final String SENTINEL_MASTER = "sentinelMaster";
     /**
      * Constant <code>POOL_MAXTOTAL="POOL_CONFIG_KEY.maxtotal"</code>
      */
@@ -82,10 +121,74 @@ public class RedisConfig implements hu.icellmobilsoft.coffee.module.redis.config
      * Constant <code>POOL_MAXIDLE="POOL_CONFIG_KEY.maxidle"</code>
      */
     public static final String POOL_MAXIDLE = "maxidle";
+    /**
+     * Constant <code>POOL_MINIDLE="POOL_CONFIG_KEY.minidle"</code>
+     */
+    public static final String POOL_MINIDLE = "minidle";
+    /**
+     * Constant <code>POOL_MAXWAIT="POOL_CONFIG_KEY.maxwait"</code>
+     */
+    public static final String POOL_MAXWAIT = "maxwait";
+    /**
+     * Constant <code>POOL_TESTONBORROW="POOL_CONFIG_KEY.testonborrow"</code>
+     */
+    public static final String POOL_TESTONBORROW = "testonborrow";
+    /**
+     * Constant <code>POOL_TIMEBETWEENEVICTIONRUNS="POOL_CONFIG_KEY.timebetweenevictionruns"</code>
+     */
+    public static final String POOL_TIMEBETWEENEVICTIONRUNS = "timebetweenevictionruns";
+    /**
+     * Constant <code>POOL_BLOCKWHENEXHAUSTED="POOL_CONFIG_KEY.blockwhenexhausted"</code>
+     */
+    public static final String POOL_BLOCKWHENEXHAUSTED = "blockwhenexhausted";
+    /**
+     * Constant <code>DEFAULT_POOL_CONFIG_KEY="default"</code>
+     */
+    public static final String DEFAULT_POOL_CONFIG_KEY = "default";
     /**
      * Constant <code>TIMEOUT="timeout"</code>
      */
     public static final String TIMEOUT = "timeout";
+    /**
+     * Constant <code>CONFIG_CHECK_MILLIS="configCheckMillis"</code>
+     */
+    public static final String CONFIG_CHECK_MILLIS = "configCheckMillis";
+    /**
+     * Constant <code>BULK_CHUNK_SIZE="bulkChunkSize"</code>
+     */
+    public static final String BULK_CHUNK_SIZE = "bulkChunkSize";
+    /**
+     * Constant <code>CODEC="codec"</code>
+     */
+    public static final String CODEC = "codec";
+    /**
+     * Constant <code>COMPRESSION="compression"</code>
+     */
+    public static final String COMPRESSION = "compression";
+    /**
+     * Constant <code>NEAR_CACHE_ENABLED="nearCache.enabled"</code>
+     */
+    public static final String NEAR_CACHE_ENABLED = "nearCache.enabled";
+    /**
+     * Constant <code>NEAR_CACHE_MAX_SIZE="nearCache.maxSize"</code>
+     */
+    public static final String NEAR_CACHE_MAX_SIZE = "nearCache.maxSize";
+    /**
+     * Constant <code>NEAR_CACHE_TTL_MILLIS="nearCache.ttlMillis"</code>
+     */
+    public static final String NEAR_CACHE_TTL_MILLIS = "nearCache.ttlMillis";
+    /**
+     * Constant <code>NEAR_CACHE_CONNECTIONS="nearCache.connections"</code>
+     */
+    public static final String NEAR_CACHE_CONNECTIONS = "nearCache.connections";
+    /**
+     * Constant <code>STREAM_CONSUMER_COUNT="streamConsumer.count"</code>
+     */
+    public static final String STREAM_CONSUMER_COUNT = "streamConsumer.count";
+    /**
+     * Constant <code>STREAM_CONSUMER_BLOCK_MILLIS="streamConsumer.blockMillis"</code>
+     */
+    public static final String STREAM_CONSUMER_BLOCK_MILLIS = "streamConsumer.blockMillis";
     /**
      * Constant <code>KEY_DELIMITER="."</code>
      */
@@ -99,7 +202,7 @@ public class RedisConfig implements hu.icellmobilsoft.coffee.module.redis.config
 
     private final String configKey;
 
-    private String poolConfigKey;
+    private String poolConfigKey = DEFAULT_POOL_CONFIG_KEY;
 
     /**
      * Creates a new {@link RedisConfig} instance with the given {@code configKey}.
@@ -151,6 +254,38 @@ public class RedisConfig implements hu.icellmobilsoft.coffee.module.redis.config
         return config.getOptionalValue(joinKey(DATABASE), Integer.class).orElse(0);
     }
 
+    /**
+     * Topology of the REDIS: {@code standalone}, {@code sentinel} or {@code cluster}.
+     *
+     * @return mode, default {@link RedisMode#STANDALONE}
+     */
+    public RedisMode getMode() {
+        return config.getOptionalValue(joinKey(MODE), String.class)
+                .map(mode -> RedisMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)))
+                .orElse(RedisMode.STANDALONE);
+    }
+
+    /**
+     * The nodes to connect to, as comma separated {@code host:port} list: the sentinels in {@link RedisMode#SENTINEL} mode, the seed nodes in
+     * {@link RedisMode#CLUSTER} mode.
+     *
+     * @return nodes, default the {@link #getHost()} and {@link #getPort()} node
+     */
+    public Set<HostAndPort> getNodes() {
+        return config.getOptionalValues(joinKey(NODES), String.class)
+                .<Set<HostAndPort>> map(nodes -> nodes.stream().map(String::trim).map(HostAndPort::from).collect(Collectors.toCollection(LinkedHashSet::new)))
+                .orElseGet(() -> Set.of(new HostAndPort(getHost(), getPort())));
+    }
+
+    /**
+     * The name of the master monitored by the sentinels in {@link RedisMode#SENTINEL} mode.
+     *
+     * @return sentinel master name, default {@code mymaster}
+     */
+    public String getSentinelMaster() {
+        return config.getOptionalValue(joinKey(SENTINEL_MASTER), String.class).orElse("mymaster");
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -159,7 +294,7 @@ public class RedisConfig implements hu.icellmobilsoft.coffee.module.redis.config
      */
     @Override
     public Integer getPoolMaxTotal() {
-        return config.getOptionalValue(joinKey(POOL + KEY_DELIMITER + getPoolConfigKey() + "." + POOL_MAXTOTAL), Integer.class).orElse(64);
+        return config.getOptionalValue(joinPoolKey(POOL_MAXTOTAL), Integer.class).orElse(64);
     }
 
     /**
@@ -171,7 +306,52 @@ public class RedisConfig implements hu.icellmobilsoft.coffee.module.redis.config
      */
     @Override
     public Integer getPoolMaxIdle() {
-        return config.getOptionalValue(joinKey(POOL + KEY_DELIMITER + getPoolConfigKey() + "." + POOL_MAXIDLE), Integer.class).orElse(16);
+        return config.getOptionalValue(joinPoolKey(POOL_MAXIDLE), Integer.class).orElse(16);
+    }
+
+    /**
+     * The target for the minimum number of idle connections to maintain in the pool, the evictor creates the missing ones.
+     *
+     * @return pool min idle, default 0
+     */
+    public int getPoolMinIdle() {
+        return config.getOptionalValue(joinPoolKey(POOL_MINIDLE), Integer.class).orElse(0);
+    }
+
+    /**
+     * The maximum time in millisec a borrow waits for a connection when the pool is exhausted, negative for no limit.
+     *
+     * @return pool max wait, default -1
+     */
+    public long getPoolMaxWaitMillis() {
+        return config.getOptionalValue(joinPoolKey(POOL_MAXWAIT), Long.class).orElse(-1L);
+    }
+
+    /**
+     * Whether the connections are validated (PING) before borrowed from the pool.
+     *
+     * @return pool test on borrow, default false
+     */
+    public boolean isPoolTestOnBorrow() {
+        return config.getOptionalValue(joinPoolKey(POOL_TESTONBORROW), Boolean.class).orElse(false);
+    }
+
+    /**
+     * The time in millisec between the runs of the idle connection evictor, non-positive for no eviction.
+     *
+     * @return pool time between eviction runs, default 30000
+     */
+    public long getPoolTimeBetweenEvictionRunsMillis() {
+        return config.getOptionalValue(joinPoolKey(POOL_TIMEBETWEENEVICTIONRUNS), Long.class).orElse(30000L);
+    }
+
+    /**
+     * Whether a borrow waits (up to {@link #getPoolMaxWaitMillis()}) or fails immediately when the pool is exhausted.
+     *
+     * @return pool block when exhausted, default true
+     */
+    public boolean isPoolBlockWhenExhausted() {
+        return config.getOptionalValue(joinPoolKey(POOL_BLOCKWHENEXHAUSTED), Boolean.class).orElse(true);
     }
 
     /**
@@ -185,9 +365,101 @@ public class RedisConfig implements hu.icellmobilsoft.coffee.module.redis.config
     }
 
     /**
-     * Getter for the field {@code poolConfigKey}.
+     * Minimum time between two checks of the mode, nodes, host, port and database of the configuration key by
+     * {@link JedisConnectionCache#get(String)}, the connection pool is re-created when they have changed. 0 checks on every call.
+     *
+     * @return config check interval in millisec, default 1000
+     */
+    public long getConfigCheckMillis() {
+        return config.getOptionalValue(joinKey(CONFIG_CHECK_MILLIS), Long.class).orElse(1000L);
+    }
+
+    /**
+     * Number of keys sent in one MGET command or one pipeline by the bulk operations of {@link RedisHandler}.
+     *
+     * @return bulk chunk size, default 1000
+     */
+    public int getBulkChunkSize() {
+        return config.getOptionalValue(joinKey(BULK_CHUNK_SIZE), Integer.class).orElse(1000);
+    }
+
+    /**
+     * Name of the {@link hu.icellmobilsoft.roaster.redis.codec.RedisValueCodec} of the values stored by {@link RedisHandler}: {@code json},
+     * {@code smile} or the name of a codec registered with {@link java.util.ServiceLoader}.
+     *
+     * @return codec name, default {@code json}
+     */
+    public String getCodec() {
+        return config.getOptionalValue(joinKey(CODEC), String.class).orElse("json");
+    }
+
+    /**
+     * Compression of the encoded values stored by {@link RedisHandler}: {@code none} or {@code deflate}.
+     *
+     * @return compression, default {@code none}
+     */
+    public String getCompression() {
+        return config.getOptionalValue(joinKey(COMPRESSION), String.class).orElse("none");
+    }
+
+    /**
+     * Whether the reads of {@link RedisHandler} are served from a {@link RedisNearCache}.
      *
-     * @return poolConfigKey
+     * @return near-cache enabled, default {@code false}
+     */
+    public boolean isNearCacheEnabled() {
+        return config.getOptionalValue(joinKey(NEAR_CACHE_ENABLED), Boolean.class).orElse(false);
+    }
+
+    /**
+     * Maximum number of entries of the {@link RedisNearCache}, the least recently used entry is evicted above it.
+     *
+     * @return near-cache max size, default 1000
+     */
+    public int getNearCacheMaxSize() {
+        return config.getOptionalValue(joinKey(NEAR_CACHE_MAX_SIZE), Integer.class).orElse(1000);
+    }
+
+    /**
+     * Time to live of the {@link RedisNearCache} entries in millisec.
+     *
+     * @return near-cache TTL, default 60000
+     */
+    public long getNearCacheTtlMillis() {
+        return config.getOptionalValue(joinKey(NEAR_CACHE_TTL_MILLIS), Long.class).orElse(60000L);
+    }
+
+    /**
+     * Number of the tracked connections of the {@link RedisNearCache}, the maximum number of parallel reads of the not cached keys.
+     *
+     * @return near-cache connections, default 4
+     */
+    public int getNearCacheConnections() {
+        return config.getOptionalValue(joinKey(NEAR_CACHE_CONNECTIONS), Integer.class).orElse(4);
+    }
+
+    /**
+     * Maximum number of entries read by one XREADGROUP command of {@link RedisStreamConsumer} (COUNT).
+     *
+     * @return stream consumer count, default 100
+     */
+    public int getStreamConsumerCount() {
+        return config.getOptionalValue(joinKey(STREAM_CONSUMER_COUNT), Integer.class).orElse(100);
+    }
+
+    /**
+     * Maximum time in millisec one XREADGROUP command of {@link RedisStreamConsumer} waits for new entries (BLOCK).
+     *
+     * @return stream consumer block time, default 1000
+     */
+    public int getStreamConsumerBlockMillis() {
+        return config.getOptionalValue(joinKey(STREAM_CONSUMER_BLOCK_MILLIS), Integer.class).orElse(1000);
+    }
+
+    /**
+     * Getter for the field {@code poolConfigKey}, the key of the pool settings ({@code roaster.redis.${configKey}.pool.${poolConfigKey}.*}).
+     *
+     * @return poolConfigKey, default {@value #DEFAULT_POOL_CONFIG_KEY}
      */
     public String getPoolConfigKey() {
         return poolConfigKey;
@@ -207,4 +479,8 @@ public class RedisConfig implements hu.icellmobilsoft.coffee.module.redis.config
         return String.join(KEY_DELIMITER, REDIS_PREFIX, configKey, key);
     }
 
+    private String joinPoolKey(String key) {
+        return joinKey(String.join(KEY_DELIMITER, POOL, getPoolConfigKey(), key));
+    }
+
 }
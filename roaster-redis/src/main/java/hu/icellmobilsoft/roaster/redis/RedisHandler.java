@@ -19,20 +19,39 @@
  */
 package hu.icellmobilsoft.roaster.redis;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.enterprise.inject.Model;
 
 import org.apache.commons.lang3.StringUtils;
 
 import hu.icellmobilsoft.coffee.dto.exception.BONotFoundException;
+import hu.icellmobilsoft.coffee.dto.exception.InvalidParameterException;
 import hu.icellmobilsoft.coffee.se.api.exception.BaseException;
-import hu.icellmobilsoft.coffee.tool.utils.json.JsonUtil;
+import hu.icellmobilsoft.roaster.redis.codec.RedisValueCodec;
+import hu.icellmobilsoft.roaster.redis.codec.RedisValueCodecCache;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
 
 /**
- * Class representing REDIS functionality
+ * Class representing REDIS functionality. The values are converted with the {@link RedisValueCodec} of the redis config key (JSON by default),
+ * see {@link RedisConfig#getCodec()}. The single key reads can be served from a {@link RedisNearCache}, see {@link RedisConfig#isNearCacheEnabled()}.
  *
  * @author balazs.joo
  * @author imre.scheffer
@@ -62,18 +81,13 @@ public class RedisHandler {
      * @throws BaseException
      *             if data not found
      */
-    @SuppressWarnings("unchecked")
     public <T> T getRedisData(String redisConfigKey, String valueKey, Class<T> c) throws BaseException {
         checkKey(valueKey);
-        UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
-        Optional<String> result = Optional.ofNullable(jedis.get(valueKey));
-        if (result.isEmpty()) {
+        byte[] result = get(redisConfigKey, valueKey);
+        if (result == null) {
             throw new BONotFoundException("Invalid redis data found for key [" + valueKey + "] and type [" + c.getSimpleName() + "]!");
-        } else if (c == String.class) {
-            return (T) result.get();
-        } else {
-            return JsonUtil.toObject(result.get(), c);
         }
+        return RedisValueCodecCache.get(redisConfigKey).decode(result, c);
     }
 
     /**
@@ -92,18 +106,13 @@ public class RedisHandler {
      * @throws BaseException
      *             exception
      */
-    @SuppressWarnings("unchecked")
     public <T> Optional<T> getRedisDataOpt(String redisConfigKey, String valueKey, Class<T> c) throws BaseException {
         checkKey(valueKey);
-        UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
-        Optional<String> result = Optional.ofNullable(jedis.get(valueKey));
-        if (result.isEmpty()) {
+        byte[] result = get(redisConfigKey, valueKey);
+        if (result == null) {
             return Optional.empty();
-        } else if (c == String.class) {
-            return Optional.of((T) result.get());
-        } else {
-            return Optional.ofNullable(JsonUtil.toObject(result.get(), c));
         }
+        return Optional.ofNullable(RedisValueCodecCache.get(redisConfigKey).decode(result, c));
     }
 
     /**
@@ -123,9 +132,10 @@ public class RedisHandler {
      */
     public <T> Optional<String> setRedisData(String redisConfigKey, String valueKey, T redisData) throws BaseException {
         checkKey(valueKey);
-        String redisDataString = JsonUtil.toJson(redisData);
+        byte[] redisDataBytes = RedisValueCodecCache.get(redisConfigKey).encode(redisData);
         UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
-        return Optional.ofNullable(jedis.set(valueKey, redisDataString));
+        invalidate(redisConfigKey, valueKey);
+        return Optional.ofNullable(jedis.set(SafeEncoder.encode(valueKey), redisDataBytes));
     }
 
     /**
@@ -147,9 +157,92 @@ public class RedisHandler {
      */
     public <T> Optional<String> setRedisDataExp(String redisConfigKey, String valueKey, int secondsToExpire, T redisData) throws BaseException {
         checkKey(valueKey);
-        String redisDataString = JsonUtil.toJson(redisData);
+        byte[] redisDataBytes = RedisValueCodecCache.get(redisConfigKey).encode(redisData);
+        UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
+        invalidate(redisConfigKey, valueKey);
+        return Optional.ofNullable(jedis.setex(SafeEncoder.encode(valueKey), secondsToExpire, redisDataBytes));
+    }
+
+    /**
+     * Gets data from REDIS, identified by {@code redisConfigKey}, for all the given {@code valueKeys} with MGET commands of
+     * {@link RedisConfig#getBulkChunkSize()} keys, and responses with given class. In {@link RedisMode#CLUSTER} mode the keys of one MGET command
+     * are in the same hash slot.
+     *
+     * @param <T>
+     *            generic type
+     * @param redisConfigKey
+     *            REDIS db configuration key
+     * @param valueKeys
+     *            keys for values
+     * @param c
+     *            response class
+     * @return per-key outcome: the found values, the missing keys and the keys failed to deserialize
+     * @throws BaseException
+     *             if a key is empty or {@link RedisConfig#getBulkChunkSize()} is less than 1
+     */
+    public <T> RedisBulkResult<T> getRedisDataBulk(String redisConfigKey, Collection<String> valueKeys, Class<T> c) throws BaseException {
+        checkKeys(valueKeys);
         UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
-        return Optional.ofNullable(jedis.setex(valueKey, secondsToExpire, redisDataString));
+        RedisValueCodec codec = RedisValueCodecCache.get(redisConfigKey);
+        RedisBulkResult<T> result = new RedisBulkResult<>();
+        int chunkSize = new RedisConfig(redisConfigKey).getBulkChunkSize();
+        checkBatchSize(chunkSize, RedisConfig.BULK_CHUNK_SIZE);
+        for (List<String> chunk : chunksBySlot(jedis, valueKeys, chunkSize)) {
+            List<byte[]> values = jedis.mget(chunk.stream().map(SafeEncoder::encode).toArray(byte[][]::new));
+            for (int i = 0; i < chunk.size(); i++) {
+                String key = chunk.get(i);
+                byte[] value = values.get(i);
+                if (value == null) {
+                    result.addMissingKey(key);
+                    continue;
+                }
+                try {
+                    result.addValue(key, codec.decode(value, c));
+                } catch (BaseException e) {
+                    result.addFailure(key, e);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Puts all data in given REDIS db, with pipelines of {@link RedisConfig#getBulkChunkSize()} SET commands. The data is serialized before
+     * sending the first pipeline.
+     *
+     * @param <T>
+     *            generic type
+     * @param redisConfigKey
+     *            REDIS db configuration key
+     * @param redisData
+     *            data to store by key
+     * @return per-key outcome: the status code replies and the keys failed to serialize or store
+     * @throws BaseException
+     *             if a key is empty or {@link RedisConfig#getBulkChunkSize()} is less than 1
+     */
+    public <T> RedisBulkResult<String> setRedisDataBulk(String redisConfigKey, Map<String, T> redisData) throws BaseException {
+        return setBulk(redisConfigKey, redisData, (pipeline, key, value) -> pipeline.set(key, value));
+    }
+
+    /**
+     * Puts all data in given REDIS db, with expiration time, with pipelines of {@link RedisConfig#getBulkChunkSize()} SETEX commands. The data
+     * is serialized before sending the first pipeline.
+     *
+     * @param <T>
+     *            generic type
+     * @param redisConfigKey
+     *            REDIS db configuration key
+     * @param secondsToExpire
+     *            expire time in seconds
+     * @param redisData
+     *            data to store by key
+     * @return per-key outcome: the status code replies and the keys failed to serialize or store
+     * @throws BaseException
+     *             if a key is empty or {@link RedisConfig#getBulkChunkSize()} is less than 1
+     */
+    public <T> RedisBulkResult<String> setRedisDataExpBulk(String redisConfigKey, int secondsToExpire, Map<String, T> redisData)
+            throws BaseException {
+        return setBulk(redisConfigKey, redisData, (pipeline, key, value) -> pipeline.setex(key, secondsToExpire, value));
     }
 
     /**
@@ -166,6 +259,7 @@ public class RedisHandler {
     public Optional<Long> removeRedisData(String redisConfigKey, String valueKey) throws BaseException {
         checkKey(valueKey);
         UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
+        invalidate(redisConfigKey, valueKey);
         return Optional.of(jedis.del(valueKey));
     }
 
@@ -187,15 +281,85 @@ public class RedisHandler {
             return Optional.empty();
         }
 
-        String[] keys = new String[valueKeys.size()];
-        keys = valueKeys.toArray(keys);
+        UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
+        valueKeys.forEach(valueKey -> invalidate(redisConfigKey, valueKey));
+        if (!(jedis instanceof JedisCluster)) {
+            return Optional.of(jedis.del(valueKeys.toArray(new String[0])));
+        }
+        // a multi key command of a cluster can only contain the keys of one hash slot
+        long removed = 0;
+        for (List<String> slotKeys : chunksBySlot(jedis, valueKeys, valueKeys.size())) {
+            removed += jedis.del(slotKeys.toArray(new String[0]));
+        }
+        return Optional.of(removed);
+    }
+
+    /**
+     * Lazy stream of the keys matching the pattern in given REDIS db, with the cursor based SCAN command (COUNT
+     * {@link RedisConfig#getBulkChunkSize()}). The server is not blocked like with the KEYS command. A key can be returned more than once.
+     *
+     * @param redisConfigKey
+     *            REDIS db configuration key
+     * @param pattern
+     *            glob-style key pattern, like {@code "myTest:*"}
+     * @return stream of the matching keys
+     * @throws BaseException
+     *             if the pattern is empty
+     */
+    public Stream<String> scanKeys(String redisConfigKey, String pattern) throws BaseException {
+        checkKey(pattern);
+        UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
+        ScanKeyIterator iterator = new ScanKeyIterator(jedis, pattern, new RedisConfig(redisConfigKey).getBulkChunkSize());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false);
+    }
 
+    /**
+     * Removes the keys matching the pattern from given REDIS db. The keys are scanned with SCAN and removed with UNLINK commands of
+     * {@code batchSize} keys (of one hash slot in {@link RedisMode#CLUSTER} mode), the reply of a batch is read before the next one is collected,
+     * so the memory use does not depend on the number of matching keys. UNLINK frees the memory in the background, so neither the server nor
+     * the other tests using the same REDIS are blocked, and only the keys of the pattern are removed, unlike {@link #removeAllRedisData(String)}.
+     *
+     * @param redisConfigKey
+     *            REDIS db configuration key
+     * @param pattern
+     *            glob-style key pattern, like {@code "myTest:*"}
+     * @param batchSize
+     *            number of keys removed in one UNLINK command
+     * @return number of removed keys
+     * @throws BaseException
+     *             if the pattern is empty or the batch size is less than 1
+     */
+    public Optional<Long> removeByPattern(String redisConfigKey, String pattern, int batchSize) throws BaseException {
+        checkBatchSize(batchSize, "batchSize");
         UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
-        return Optional.of(jedis.del(keys));
+        boolean cluster = jedis instanceof JedisCluster;
+        long removed = 0;
+        try (Stream<String> keys = scanKeys(redisConfigKey, pattern)) {
+            // in cluster mode one UNLINK command can only contain the keys of one hash slot
+            Map<Integer, List<String>> batchBySlot = new HashMap<>();
+            Iterator<String> iterator = keys.iterator();
+            while (iterator.hasNext()) {
+                String key = iterator.next();
+                invalidate(redisConfigKey, key);
+                List<String> batch = batchBySlot.computeIfAbsent(cluster ? JedisClusterCRC16.getSlot(key) : 0, slot -> new ArrayList<>(batchSize));
+                batch.add(key);
+                if (batch.size() == batchSize) {
+                    removed += jedis.unlink(batch.toArray(new String[0]));
+                    batch.clear();
+                }
+            }
+            for (List<String> batch : batchBySlot.values()) {
+                if (!batch.isEmpty()) {
+                    removed += jedis.unlink(batch.toArray(new String[0]));
+                }
+            }
+        }
+        return Optional.of(removed);
     }
 
     /**
-     * Erases all data from given REDIS db
+     * Erases all data from given REDIS db. The FLUSHDB command blocks the server and removes the data of every test using the same REDIS db,
+     * consider using {@link #removeByPattern(String, String, int)} instead.
      *
      * @param redisConfigKey
      *            REDIS db configuration key
@@ -204,12 +368,108 @@ public class RedisHandler {
      */
     public void removeAllRedisData(String redisConfigKey) throws BaseException {
         UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
+        RedisNearCache.get(redisConfigKey).ifPresent(RedisNearCache::invalidateAll);
         jedis.flushDB();
     }
 
+    private byte[] get(String redisConfigKey, String valueKey) {
+        Optional<RedisNearCache> nearCache = RedisNearCache.get(redisConfigKey);
+        if (nearCache.isPresent()) {
+            return nearCache.get().getValue(valueKey);
+        }
+        return JedisConnectionCache.get(redisConfigKey).get(SafeEncoder.encode(valueKey));
+    }
+
+    private void invalidate(String redisConfigKey, String valueKey) {
+        RedisNearCache.get(redisConfigKey).ifPresent(nearCache -> nearCache.invalidate(valueKey));
+    }
+
     private void checkKey(String valueKey) throws BONotFoundException {
         if (StringUtils.isBlank(valueKey)) {
             throw new BONotFoundException("valueKey is empty!");
         }
     }
+
+    private void checkBatchSize(int batchSize, String name) throws InvalidParameterException {
+        if (batchSize < 1) {
+            throw new InvalidParameterException(name + " must be at least 1, but it is [" + batchSize + "]!");
+        }
+    }
+
+    private void checkKeys(Collection<String> valueKeys) throws BONotFoundException {
+        if (valueKeys == null) {
+            throw new BONotFoundException("valueKeys is empty.");
+        }
+        for (String valueKey : valueKeys) {
+            checkKey(valueKey);
+        }
+    }
+
+    private <T> RedisBulkResult<String> setBulk(String redisConfigKey, Map<String, T> redisData, PipelinedSet pipelinedSet) throws BaseException {
+        if (redisData == null) {
+            throw new BONotFoundException("redisData is empty.");
+        }
+        checkKeys(redisData.keySet());
+        int chunkSize = new RedisConfig(redisConfigKey).getBulkChunkSize();
+        checkBatchSize(chunkSize, RedisConfig.BULK_CHUNK_SIZE);
+        RedisBulkResult<String> result = new RedisBulkResult<>();
+        RedisValueCodec codec = RedisValueCodecCache.get(redisConfigKey);
+        List<Map.Entry<String, byte[]>> serializedData = new ArrayList<>(redisData.size());
+        for (Map.Entry<String, T> entry : redisData.entrySet()) {
+            try {
+                serializedData.add(Map.entry(entry.getKey(), codec.encode(entry.getValue())));
+            } catch (BaseException e) {
+                result.addFailure(entry.getKey(), e);
+            }
+        }
+
+        UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
+        for (List<Map.Entry<String, byte[]>> chunk : chunks(serializedData, chunkSize)) {
+            Map<String, Response<String>> responses = new LinkedHashMap<>();
+            try (AbstractPipeline pipeline = jedis.pipelined()) {
+                for (Map.Entry<String, byte[]> entry : chunk) {
+                    invalidate(redisConfigKey, entry.getKey());
+                    responses.put(entry.getKey(), pipelinedSet.set(pipeline, SafeEncoder.encode(entry.getKey()), entry.getValue()));
+                }
+                pipeline.sync();
+            }
+            responses.forEach((key, response) -> {
+                try {
+                    result.addValue(key, response.get());
+                } catch (JedisException e) {
+                    result.addFailure(key, e);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static List<List<String>> chunksBySlot(UnifiedJedis jedis, Collection<String> keys, int chunkSize) {
+        if (!(jedis instanceof JedisCluster)) {
+            return chunks(new ArrayList<>(keys), chunkSize);
+        }
+        Map<Integer, List<String>> keysBySlot = new LinkedHashMap<>();
+        for (String key : keys) {
+            keysBySlot.computeIfAbsent(JedisClusterCRC16.getSlot(key), slot -> new ArrayList<>()).add(key);
+        }
+        List<List<String>> chunks = new ArrayList<>();
+        keysBySlot.values().forEach(slotKeys -> chunks.addAll(chunks(slotKeys, chunkSize)));
+        return chunks;
+    }
+
+    private static <E> List<List<E>> chunks(List<E> list, int chunkSize) {
+        List<List<E>> chunks = new ArrayList<>((list.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < list.size(); from += chunkSize) {
+            chunks.add(list.subList(from, Math.min(list.size(), from + chunkSize)));
+        }
+        return chunks;
+    }
+
+    /**
+     * Adds a SET like command of one key to the pipeline
+     */
+    @FunctionalInterface
+    private interface PipelinedSet {
+        Response<String> set(AbstractPipeline pipeline, byte[] key, byte[] value);
+    }
 }
@@ -0,0 +1,316 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import hu.icellmobilsoft.coffee.se.logging.Logger;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Opt-in local near-cache of the values read by {@link RedisHandler}, with size bound and TTL eviction
+ * ({@code roaster.redis.${configKey}.nearCache.*}).
+ * <p>
+ * The values are read through a small pool of dedicated connections ({@code nearCache.connections}) with server assisted client side caching
+ * ({@code CLIENT TRACKING ON REDIRECT}): REDIS remembers the keys read on these connections and publishes the modified keys on the
+ * {@code __redis__:invalidate} channel, which is listened on a separate connection. An entry is evicted when REDIS reports its key modified,
+ * when it is written by {@link RedisHandler}, when the TTL expires or when the cache is full. If the server does not support tracking (REDIS
+ * older than 6) the entries are only evicted locally and by the TTL. If the invalidation connection or a tracked connection fails (a
+ * reconnected connection would not be tracked any more), the cache is emptied and the reads go to REDIS directly.
+ * <p>
+ * Missing keys are not cached, so polling for a key to appear always reaches REDIS. The near-cache is only available in
+ * {@link RedisMode#STANDALONE} mode.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class RedisNearCache implements AutoCloseable {
+
+    private static final Logger log = Logger.getLogger(RedisNearCache.class);
+
+    private static final String INVALIDATE_CHANNEL = "__redis__:invalidate";
+
+    private static final Map<String, Optional<RedisNearCache>> NEAR_CACHE_BY_CONFIG_KEY = new ConcurrentHashMap<>();
+
+    private final String configKey;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final List<Jedis> trackedConnections;
+    private final BlockingQueue<Jedis> idleTrackedConnections;
+    private final Connection invalidationConnection;
+    private volatile boolean active = true;
+
+    private RedisNearCache(String configKey, RedisConfig config) {
+        this.configKey = configKey;
+        maxSize = Math.max(1, config.getNearCacheMaxSize());
+        ttlNanos = TimeUnit.MILLISECONDS.toNanos(config.getNearCacheTtlMillis());
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        HostAndPort hostAndPort = new HostAndPort(config.getHost(), config.getPort());
+        JedisClientConfig clientConfig = DefaultJedisClientConfig.builder()
+                .timeoutMillis(config.getTimeout())
+                .password(config.getPassword())
+                .database(config.getDatabase())
+                .build();
+        int connectionCount = Math.max(1, config.getNearCacheConnections());
+        trackedConnections = new ArrayList<>(connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            trackedConnections.add(new Jedis(hostAndPort, clientConfig));
+        }
+        idleTrackedConnections = new ArrayBlockingQueue<>(connectionCount, false, trackedConnections);
+        invalidationConnection = startTracking(hostAndPort, clientConfig);
+    }
+
+    /**
+     * Retrieves the {@link RedisNearCache} associated with the provided configuration key, if the near-cache is enabled for it
+     * ({@link RedisConfig#isNearCacheEnabled()}). The instance is created on the first call, and closed together with the connection pool of
+     * {@link JedisConnectionCache}.
+     *
+     * @param configKey
+     *            the configuration key
+     * @return the {@link RedisNearCache} of the configuration key, or empty if the near-cache is not enabled
+     */
+    public static Optional<RedisNearCache> get(String configKey) {
+        return NEAR_CACHE_BY_CONFIG_KEY.computeIfAbsent(configKey, key -> {
+            RedisConfig config = new RedisConfig(key);
+            if (!config.isNearCacheEnabled()) {
+                return Optional.empty();
+            } else if (config.getMode() != RedisMode.STANDALONE) {
+                log.warn("Redis [{0}] near-cache is only supported in standalone mode, it is disabled in [{1}] mode", key, config.getMode());
+                return Optional.empty();
+            }
+            return Optional.of(new RedisNearCache(key, config));
+        });
+    }
+
+    /**
+     * Closes and removes the {@link RedisNearCache} of the configuration key, the next {@link #get(String)} creates a new one.
+     *
+     * @param configKey
+     *            the configuration key
+     */
+    public static void close(String configKey) {
+        Optional<RedisNearCache> nearCache = NEAR_CACHE_BY_CONFIG_KEY.remove(configKey);
+        if (nearCache != null) {
+            nearCache.ifPresent(RedisNearCache::close);
+        }
+    }
+
+    /**
+     * Closes and removes every {@link RedisNearCache}.
+     */
+    public static void closeAll() {
+        NEAR_CACHE_BY_CONFIG_KEY.keySet().forEach(RedisNearCache::close);
+    }
+
+    /**
+     * Gets the value of the key from the near-cache, or from REDIS if it is not cached.
+     *
+     * @param valueKey
+     *            key for value
+     * @return the value, or {@code null} if the key does not exist
+     */
+    public byte[] getValue(String valueKey) {
+        if (!active) {
+            return JedisConnectionCache.get(configKey).get(SafeEncoder.encode(valueKey));
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(valueKey);
+            if (entry != null) {
+                if (entry.expiresAt - System.nanoTime() > 0) {
+                    hitCount.incrementAndGet();
+                    return entry.value;
+                }
+                entries.remove(valueKey);
+            }
+        }
+        missCount.incrementAndGet();
+        long invalidationsBeforeRead = invalidations.get();
+        byte[] value;
+        Jedis trackedConnection;
+        try {
+            trackedConnection = idleTrackedConnections.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return JedisConnectionCache.get(configKey).get(SafeEncoder.encode(valueKey));
+        }
+        try {
+            value = trackedConnection.get(SafeEncoder.encode(valueKey));
+        } catch (JedisDataException e) {
+            throw e;
+        } catch (JedisException e) {
+            if (active) {
+                log.warn("Redis [{0}] near-cache tracked connection failed, near-cache disabled: {1}", configKey, e.getLocalizedMessage());
+                close();
+            }
+            return JedisConnectionCache.get(configKey).get(SafeEncoder.encode(valueKey));
+        } finally {
+            idleTrackedConnections.offer(trackedConnection);
+        }
+        if (value != null) {
+            synchronized (entries) {
+                // an invalidation received during the read may belong to the value just read
+                if (invalidationsBeforeRead == invalidations.get()) {
+                    entries.put(valueKey, new Entry(value, System.nanoTime() + ttlNanos));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Evicts the key from the near-cache.
+     *
+     * @param valueKey
+     *            key for value
+     */
+    public void invalidate(String valueKey) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(valueKey);
+        }
+    }
+
+    /**
+     * Evicts every key from the near-cache.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * Number of reads served from the near-cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Number of reads sent to REDIS.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Closes the connections of the near-cache and empties it. The later reads of this instance go to REDIS directly, use {@link #close(String)}
+     * to remove it from the configuration key.
+     */
+    @Override
+    public void close() {
+        active = false;
+        invalidateAll();
+        if (invalidationConnection != null) {
+            invalidationConnection.close();
+        }
+        trackedConnections.forEach(Jedis::close);
+    }
+
+    private Connection startTracking(HostAndPort hostAndPort, JedisClientConfig clientConfig) {
+        Connection connection = new Connection(hostAndPort, clientConfig);
+        try {
+            connection.sendCommand(Protocol.Command.CLIENT, "ID");
+            long invalidationClientId = connection.getIntegerReply();
+            for (Jedis trackedConnection : trackedConnections) {
+                trackedConnection.sendCommand(Protocol.Command.CLIENT, "TRACKING", "ON", "REDIRECT", String.valueOf(invalidationClientId));
+            }
+            connection.sendCommand(Protocol.Command.SUBSCRIBE, INVALIDATE_CHANNEL);
+            connection.getObjectMultiBulkReply();
+            connection.setTimeoutInfinite();
+        } catch (JedisDataException e) {
+            log.warn("Redis [{0}] does not support client tracking, near-cache entries are evicted only by TTL and local writes: {1}", configKey,
+                    e.getLocalizedMessage());
+            connection.close();
+            return null;
+        }
+        Thread listener = new Thread(() -> listen(connection), "roaster-redis-near-cache-" + configKey);
+        listener.setDaemon(true);
+        listener.start();
+        return connection;
+    }
+
+    private void listen(Connection connection) {
+        try {
+            while (active) {
+                // [message, __redis__:invalidate, keys], the keys are null when the whole db is flushed
+                if (!(connection.getUnflushedObject() instanceof List<?> message) || message.size() != 3) {
+                    continue;
+                }
+                if (message.get(2) instanceof List<?> keys) {
+                    keys.forEach(key -> invalidate(SafeEncoder.encode((byte[]) key)));
+                } else if (message.get(2) == null) {
+                    invalidateAll();
+                }
+            }
+        } catch (JedisException e) {
+            if (active) {
+                log.warn("Redis [{0}] near-cache invalidation connection lost, near-cache disabled: {1}", configKey, e.getLocalizedMessage());
+            }
+        } finally {
+            active = false;
+            invalidateAll();
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] value;
+        private final long expiresAt;
+
+        private Entry(byte[] value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis;
+
+import java.time.Duration;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+
+/**
+ * Snapshot of the connection pool statistics of a redis config key, see {@link JedisConnectionCache#getPoolMetrics(String)}. Waiters and a
+ * growing borrow wait time show that the pool is too small for the parallel tests.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class RedisPoolMetrics {
+
+    private final String configKey;
+    private final int numActive;
+    private final int numIdle;
+    private final int numWaiters;
+    private final long borrowedCount;
+    private final long createdCount;
+    private final long destroyedCount;
+    private final Duration meanBorrowWait;
+    private final Duration maxBorrowWait;
+
+    /**
+     * Creates a snapshot of the statistics of the pool.
+     *
+     * @param configKey
+     *            the redis config key of the pool
+     * @param pool
+     *            the connection pool
+     */
+    public RedisPoolMetrics(String configKey, GenericObjectPool<?> pool) {
+        this.configKey = configKey;
+        numActive = pool.getNumActive();
+        numIdle = pool.getNumIdle();
+        numWaiters = pool.getNumWaiters();
+        borrowedCount = pool.getBorrowedCount();
+        createdCount = pool.getCreatedCount();
+        destroyedCount = pool.getDestroyedCount();
+        meanBorrowWait = pool.getMeanBorrowWaitDuration();
+        maxBorrowWait = pool.getMaxBorrowWaitDuration();
+    }
+
+    /**
+     * The redis config key of the pool.
+     *
+     * @return config key
+     */
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    /**
+     * Number of the connections borrowed from the pool.
+     *
+     * @return active connections
+     */
+    public int getNumActive() {
+        return numActive;
+    }
+
+    /**
+     * Number of the idle connections in the pool.
+     *
+     * @return idle connections
+     */
+    public int getNumIdle() {
+        return numIdle;
+    }
+
+    /**
+     * Number of the threads waiting for a connection.
+     *
+     * @return waiting threads
+     */
+    public int getNumWaiters() {
+        return numWaiters;
+    }
+
+    /**
+     * Total number of the borrows.
+     *
+     * @return borrow count
+     */
+    public long getBorrowedCount() {
+        return borrowedCount;
+    }
+
+    /**
+     * Total number of the created connections.
+     *
+     * @return created connections
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Total number of the destroyed connections.
+     *
+     * @return destroyed connections
+     */
+    public long getDestroyedCount() {
+        return destroyedCount;
+    }
+
+    /**
+     * Mean time the recent borrows waited for a connection.
+     *
+     * @return mean borrow wait
+     */
+    public Duration getMeanBorrowWait() {
+        return meanBorrowWait;
+    }
+
+    /**
+     * Maximum time a borrow waited for a connection.
+     *
+     * @return max borrow wait
+     */
+    public Duration getMaxBorrowWait() {
+        return maxBorrowWait;
+    }
+
+    @Override
+    public String toString() {
+        return "RedisPoolMetrics[configKey=" + configKey + ", active=" + numActive + ", idle=" + numIdle + ", waiters=" + numWaiters + ", borrowed="
+                + borrowedCount + ", created=" + createdCount + ", destroyed=" + destroyedCount + ", meanBorrowWait=" + meanBorrowWait.toMillis()
+                + "ms, maxBorrowWait=" + maxBorrowWait.toMillis() + "ms]";
+    }
+}
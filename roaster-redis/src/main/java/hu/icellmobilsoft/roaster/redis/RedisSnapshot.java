@@ -0,0 +1,239 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import hu.icellmobilsoft.coffee.se.api.exception.BaseException;
+import hu.icellmobilsoft.coffee.se.api.exception.TechnicalException;
+import hu.icellmobilsoft.coffee.se.api.exception.enums.CoffeeFaultType;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.params.RestoreParams;
+
+/**
+ * Snapshot of the REDIS keys matching a pattern, for resetting the fixture data between the test classes without re-seeding it.
+ * <p>
+ * The keys are captured with pipelined DUMP and PTTL commands of {@link RedisConfig#getBulkChunkSize()} keys, which return the values in the
+ * REDIS serialization format, whatever their type is. The snapshot can be saved to and loaded from a local file, and is restored with
+ * pipelined RESTORE REPLACE commands. The remaining time to live of the keys is restored relative to the restore time.
+ *
+ * <pre>
+ * RedisSnapshot.capture("default", "fixture:*").save(Path.of("target/fixture.redis"));
+ * ...
+ * RedisSnapshot.load(Path.of("target/fixture.redis")).restore("default");
+ * </pre>
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class RedisSnapshot {
+
+    private static final int FILE_MAGIC = 0x52534E50;
+    private static final int FILE_VERSION = 1;
+
+    private final List<Entry> entries;
+
+    private RedisSnapshot(List<Entry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Captures the keys matching the pattern with pipelined DUMP and PTTL commands. The keys removed during the capture are skipped.
+     *
+     * @param redisConfigKey
+     *            REDIS db configuration key
+     * @param pattern
+     *            glob-style key pattern, like {@code "fixture:*"}
+     * @return the snapshot of the matching keys
+     */
+    public static RedisSnapshot capture(String redisConfigKey, String pattern) {
+        UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
+        int chunkSize = Math.max(1, new RedisConfig(redisConfigKey).getBulkChunkSize());
+        // SCAN can return a key more than once
+        Map<String, Entry> entryByKey = new LinkedHashMap<>();
+        ScanKeyIterator keys = new ScanKeyIterator(jedis, pattern, chunkSize);
+        List<String> chunk = new ArrayList<>(chunkSize);
+        while (keys.hasNext()) {
+            chunk.add(keys.next());
+            if (chunk.size() == chunkSize || !keys.hasNext()) {
+                dump(jedis, chunk, entryByKey);
+                chunk.clear();
+            }
+        }
+        return new RedisSnapshot(new ArrayList<>(entryByKey.values()));
+    }
+
+    /**
+     * Loads a snapshot saved by {@link #save(Path)}.
+     *
+     * @param file
+     *            the snapshot file
+     * @return the loaded snapshot
+     * @throws BaseException
+     *             if the file can not be read or is not a snapshot file
+     */
+    public static RedisSnapshot load(Path file) throws BaseException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, "File [" + file + "] is not a redis snapshot!");
+            }
+            int size = in.readInt();
+            List<Entry> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String key = in.readUTF();
+                long ttlMillis = in.readLong();
+                byte[] value = new byte[in.readInt()];
+                in.readFully(value);
+                entries.add(new Entry(key, ttlMillis, value));
+            }
+            return new RedisSnapshot(entries);
+        } catch (IOException e) {
+            throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, "Failed to load redis snapshot [" + file + "]: " + e.getLocalizedMessage(),
+                    e);
+        }
+    }
+
+    /**
+     * Saves the snapshot to a local file: the keys, the remaining time to live and the DUMP payloads, in a binary format.
+     *
+     * @param file
+     *            the snapshot file, overwritten if exists
+     * @return this snapshot
+     * @throws BaseException
+     *             if the file can not be written
+     */
+    public RedisSnapshot save(Path file) throws BaseException {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeInt(entries.size());
+                for (Entry entry : entries) {
+                    out.writeUTF(entry.key);
+                    out.writeLong(entry.ttlMillis);
+                    out.writeInt(entry.value.length);
+                    out.write(entry.value);
+                }
+            }
+            return this;
+        } catch (IOException e) {
+            throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, "Failed to save redis snapshot [" + file + "]: " + e.getLocalizedMessage(),
+                    e);
+        }
+    }
+
+    /**
+     * Restores the keys of the snapshot with pipelined RESTORE REPLACE commands of {@link RedisConfig#getBulkChunkSize()} keys. The existing keys
+     * are overwritten, the other keys of REDIS are not touched.
+     *
+     * @param redisConfigKey
+     *            REDIS db configuration key
+     * @return number of restored keys
+     */
+    public int restore(String redisConfigKey) {
+        UnifiedJedis jedis = JedisConnectionCache.get(redisConfigKey);
+        int chunkSize = Math.max(1, new RedisConfig(redisConfigKey).getBulkChunkSize());
+        RestoreParams restoreParams = RestoreParams.restoreParams().replace();
+        RedisNearCache.get(redisConfigKey).ifPresent(RedisNearCache::invalidateAll);
+        int restored = 0;
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            List<Response<String>> responses = new ArrayList<>(chunkSize);
+            try (AbstractPipeline pipeline = jedis.pipelined()) {
+                for (Entry entry : entries.subList(from, Math.min(entries.size(), from + chunkSize))) {
+                    responses.add(pipeline.restore(entry.key, entry.ttlMillis, entry.value, restoreParams));
+                }
+                pipeline.sync();
+            }
+            for (Response<String> response : responses) {
+                response.get();
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Number of keys in the snapshot.
+     *
+     * @return key count
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Keys of the snapshot.
+     *
+     * @return keys, in capture order
+     */
+    public List<String> getKeys() {
+        return entries.stream().map(entry -> entry.key).toList();
+    }
+
+    private static void dump(UnifiedJedis jedis, List<String> keys, Map<String, Entry> entryByKey) {
+        List<Response<byte[]>> values = new ArrayList<>(keys.size());
+        List<Response<Long>> ttls = new ArrayList<>(keys.size());
+        try (AbstractPipeline pipeline = jedis.pipelined()) {
+            for (String key : keys) {
+                values.add(pipeline.dump(key));
+                ttls.add(pipeline.pttl(key));
+            }
+            pipeline.sync();
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] value = values.get(i).get();
+            long ttlMillis = ttls.get(i).get();
+            // the key is removed or expired since the scan
+            if (value == null || ttlMillis == -2) {
+                continue;
+            }
+            // RESTORE uses 0 for no expiration, PTTL -1
+            entryByKey.put(keys.get(i), new Entry(keys.get(i), ttlMillis == -1 ? 0 : Math.max(1, ttlMillis), value));
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final long ttlMillis;
+        private final byte[] value;
+
+        private Entry(String key, long ttlMillis, byte[] value) {
+            this.key = key;
+            this.ttlMillis = ttlMillis;
+            this.value = value;
+        }
+    }
+}
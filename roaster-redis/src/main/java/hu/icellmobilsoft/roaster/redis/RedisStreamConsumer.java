@@ -0,0 +1,257 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.awaitility.core.ConditionFactory;
+
+import hu.icellmobilsoft.coffee.module.redisstream.common.RedisStreamUtil;
+import hu.icellmobilsoft.coffee.module.redisstream.config.IRedisStreamConstant;
+import hu.icellmobilsoft.coffee.se.util.string.RandomUtil;
+import hu.icellmobilsoft.roaster.awaitility.ConfiguredAwaitility;
+import redis.clients.jedis.StreamEntryID;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.params.XReadGroupParams;
+import redis.clients.jedis.resps.StreamEntry;
+
+/**
+ * Reads back the messages of a Redis stream, published by the tested service or by {@link RedisStreamPublisher}. The messages are read with
+ * blocking XREADGROUP commands of {@link RedisConfig#getStreamConsumerCount()} entries, waiting at most
+ * {@link RedisConfig#getStreamConsumerBlockMillis()} for new entries, and every read batch is acknowledged with one XACK command.
+ * <p>
+ * By default the consumer reads in its own, unique consumer group ({@value #CONSUMER_GROUP_PREFIX}&lt;random id&gt;), so it does not take the
+ * messages away from the consumers of the tested services, nor from the other consumers of parallel tests. The consumer group is created with the
+ * stream if it does not exist, and starts with the entries added after the creation. A consumer group created by the instance is destroyed on
+ * {@link #close()}, so no consumer group is left behind to resume from its last delivered entry later.
+ *
+ * <pre>
+ * try (RedisStreamConsumer consumer = new RedisStreamConsumer("default", "exampleGroup")) {
+ *     // call the tested service
+ *     List&lt;StreamEntry&gt; entries = consumer.awaitMessages(3, entry -&gt; RedisStreamConsumer.getMessage(entry).startsWith("order"));
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class RedisStreamConsumer implements AutoCloseable {
+
+    /**
+     * Constant <code>CONSUMER_GROUP_PREFIX="roaster-"</code>
+     */
+    public static final String CONSUMER_GROUP_PREFIX = "roaster-";
+
+    private final String configKey;
+    private final String streamKey;
+    private final String consumerGroup;
+    private final String consumer;
+    private final XReadGroupParams readParams;
+    private final boolean consumerGroupCreated;
+
+    /**
+     * Constructs a new instance reading the stream of the group in a new, unique consumer group ({@value #CONSUMER_GROUP_PREFIX}&lt;random
+     * id&gt;).
+     *
+     * @param configKey
+     *            the configuration key used to retrieve a Jedis connection from the JedisConnectionCache
+     * @param group
+     *            the group identifier used to determine the stream key for Redis operations
+     */
+    public RedisStreamConsumer(String configKey, String group) {
+        this(configKey, group, CONSUMER_GROUP_PREFIX + RandomUtil.generateId(), StreamEntryID.LAST_ENTRY);
+    }
+
+    /**
+     * Constructs a new instance reading the stream of the group in the given consumer group.
+     *
+     * @param configKey
+     *            the configuration key used to retrieve a Jedis connection from the JedisConnectionCache
+     * @param group
+     *            the group identifier used to determine the stream key for Redis operations
+     * @param consumerGroup
+     *            the consumer group to read in, if it already exists, it is shared with its other consumers and it is not destroyed on
+     *            {@link #close()}
+     * @param startId
+     *            the first entry read by the consumer group, if it is created: {@link StreamEntryID#LAST_ENTRY} for the entries added after the
+     *            creation, {@link StreamEntryID#MINIMUM_ID} for every entry of the stream
+     */
+    public RedisStreamConsumer(String configKey, String group, String consumerGroup, StreamEntryID startId) {
+        RedisConfig config = new RedisConfig(configKey);
+        this.configKey = configKey;
+        streamKey = RedisStreamUtil.streamKey(group);
+        this.consumerGroup = consumerGroup;
+        consumer = RandomUtil.generateId();
+        readParams = XReadGroupParams.xReadGroupParams().count(config.getStreamConsumerCount()).block(config.getStreamConsumerBlockMillis());
+        consumerGroupCreated = createConsumerGroup(startId);
+    }
+
+    /**
+     * Reads the next batch of messages, waiting at most {@link RedisConfig#getStreamConsumerBlockMillis()} for new entries, and acknowledges
+     * them.
+     *
+     * @return the read stream entries, empty if no entry arrived in time
+     */
+    public List<StreamEntry> read() {
+        List<Map.Entry<String, List<StreamEntry>>> result = jedis()
+                .xreadGroup(consumerGroup, consumer, readParams, Map.of(streamKey, StreamEntryID.UNRECEIVED_ENTRY));
+        if (result == null || result.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<StreamEntry> entries = result.get(0).getValue();
+        if (!entries.isEmpty()) {
+            jedis().xack(streamKey, consumerGroup, entries.stream().map(StreamEntry::getID).toArray(StreamEntryID[]::new));
+        }
+        return entries;
+    }
+
+    /**
+     * Lazy stream of the messages. The batches are read when the previous one is consumed, and the stream ends when no new entry arrives within
+     * {@link RedisConfig#getStreamConsumerBlockMillis()}.
+     *
+     * @return stream of the stream entries
+     */
+    public Stream<StreamEntry> stream() {
+        Iterator<StreamEntry> iterator = new Iterator<>() {
+            private Iterator<StreamEntry> batch = Collections.emptyIterator();
+            private boolean completed;
+
+            @Override
+            public boolean hasNext() {
+                if (!batch.hasNext() && !completed) {
+                    List<StreamEntry> entries = read();
+                    batch = entries.iterator();
+                    completed = entries.isEmpty();
+                }
+                return batch.hasNext();
+            }
+
+            @Override
+            public StreamEntry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return batch.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Waits with {@link ConfiguredAwaitility} until {@code count} messages matching the predicate are read. Every poll is a blocking read, so
+     * the wait does not busy poll REDIS. The not matching messages are acknowledged and dropped.
+     *
+     * @param count
+     *            number of expected messages
+     * @param predicate
+     *            filter of the expected messages
+     * @return the matching stream entries, at least {@code count}
+     */
+    public List<StreamEntry> awaitMessages(int count, Predicate<StreamEntry> predicate) {
+        return awaitMessages(ConfiguredAwaitility.await(), count, predicate);
+    }
+
+    /**
+     * Waits with the given condition factory until {@code count} messages matching the predicate are read. Every poll is a blocking read, so
+     * the wait does not busy poll REDIS. The not matching messages are acknowledged and dropped.
+     * <p>
+     * The reads run in the calling thread without poll delay ({@link ConditionFactory#pollInSameThread()}), so a read is never left running in
+     * the background after the timeout, acknowledging entries that nobody sees. The timeout can be exceeded by at most
+     * {@link RedisConfig#getStreamConsumerBlockMillis()}.
+     *
+     * @param conditionFactory
+     *            awaitility condition factory with the timeout settings
+     * @param count
+     *            number of expected messages
+     * @param predicate
+     *            filter of the expected messages
+     * @return the matching stream entries, at least {@code count}
+     */
+    public List<StreamEntry> awaitMessages(ConditionFactory conditionFactory, int count, Predicate<StreamEntry> predicate) {
+        List<StreamEntry> matching = new ArrayList<>();
+        conditionFactory.pollInSameThread().pollDelay(Duration.ZERO).alias("[" + count + "] messages on stream [" + streamKey + "]").until(() -> {
+            read().stream().filter(predicate).forEach(matching::add);
+            return matching.size() >= count;
+        });
+        return new ArrayList<>(matching);
+    }
+
+    /**
+     * Returns the message of a stream entry published by {@link RedisStreamPublisher} or by the coffee redis stream module.
+     *
+     * @param entry
+     *            stream entry
+     * @return the message field of the entry
+     */
+    public static String getMessage(StreamEntry entry) {
+        return entry.getFields().get(IRedisStreamConstant.Common.DATA_KEY_MESSAGE);
+    }
+
+    /**
+     * Destroys the consumer group if it was created by this instance, otherwise removes the consumer from the consumer group.
+     */
+    @Override
+    public void close() {
+        if (consumerGroupCreated) {
+            jedis().xgroupDestroy(streamKey, consumerGroup);
+        } else {
+            jedis().xgroupDelConsumer(streamKey, consumerGroup, consumer);
+        }
+    }
+
+    /**
+     * Getter for the field {@code consumerGroup}.
+     *
+     * @return the consumer group the messages are read in
+     */
+    public String getConsumerGroup() {
+        return consumerGroup;
+    }
+
+    private boolean createConsumerGroup(StreamEntryID startId) {
+        try {
+            jedis().xgroupCreate(streamKey, consumerGroup, startId, true);
+            return true;
+        } catch (JedisDataException e) {
+            // the consumer group already exists
+            if (e.getMessage() == null || !e.getMessage().startsWith("BUSYGROUP")) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    private UnifiedJedis jedis() {
+        // resolved on every call, so a re-created connection pool of the config key is used
+        return JedisConnectionCache.get(configKey);
+    }
+}
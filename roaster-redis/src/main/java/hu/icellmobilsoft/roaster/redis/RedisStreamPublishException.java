@@ -0,0 +1,62 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis;
+
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Thrown by {@link RedisStreamPublisher#publishAll(java.util.stream.Stream, int, long)} if a pipeline or an XADD command of it has failed. The
+ * messages of the following pipelines are not published, the ids of the stream entries added before the failure are available with
+ * {@link #getResult()}.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class RedisStreamPublishException extends JedisException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient RedisStreamPublishResult result;
+
+    /**
+     * Creates a new {@link RedisStreamPublishException} instance.
+     *
+     * @param message
+     *            error message
+     * @param result
+     *            the ids of the stream entries added before the failure
+     * @param cause
+     *            the first failure of the pipeline
+     */
+    public RedisStreamPublishException(String message, RedisStreamPublishResult result, Throwable cause) {
+        super(message, cause);
+        this.result = result;
+    }
+
+    /**
+     * The ids of the stream entries added before the failure (including the successful XADD commands of the failed pipeline), in publish order,
+     * and the time spent with publishing.
+     *
+     * @return partial publish result
+     */
+    public RedisStreamPublishResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import redis.clients.jedis.StreamEntryID;
+
+/**
+ * Result of {@link RedisStreamPublisher#publishAll(java.util.stream.Stream, int, long)}: the ids of the published stream entries and the achieved
+ * throughput.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class RedisStreamPublishResult {
+
+    private final List<StreamEntryID> entryIds;
+    private final Duration duration;
+
+    /**
+     * Creates a new {@link RedisStreamPublishResult} instance.
+     *
+     * @param entryIds
+     *            ids of the published stream entries, in publish order
+     * @param duration
+     *            time spent with publishing
+     */
+    public RedisStreamPublishResult(List<StreamEntryID> entryIds, Duration duration) {
+        this.entryIds = Collections.unmodifiableList(entryIds);
+        this.duration = duration;
+    }
+
+    /**
+     * Ids of the published stream entries, in publish order.
+     *
+     * @return stream entry ids
+     */
+    public List<StreamEntryID> getEntryIds() {
+        return entryIds;
+    }
+
+    /**
+     * Number of the published messages.
+     *
+     * @return message count
+     */
+    public int getMessageCount() {
+        return entryIds.size();
+    }
+
+    /**
+     * Time spent with publishing.
+     *
+     * @return duration
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Achieved publish throughput.
+     *
+     * @return published messages per second
+     */
+    public double getMessagesPerSecond() {
+        long nanos = Math.max(1, duration.toNanos());
+        return entryIds.size() * 1_000_000_000d / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RedisStreamPublishResult[messages=%d, duration=%dms, messagesPerSecond=%.1f]", getMessageCount(), duration.toMillis(),
+                getMessagesPerSecond());
+    }
+}
@@ -19,18 +19,29 @@
  */
 package hu.icellmobilsoft.roaster.redis;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import hu.icellmobilsoft.coffee.dto.common.LogConstants;
 import hu.icellmobilsoft.coffee.module.redisstream.common.RedisStreamUtil;
 import hu.icellmobilsoft.coffee.module.redisstream.config.IRedisStreamConstant;
 import hu.icellmobilsoft.coffee.module.redisstream.config.StreamMessageParameter;
+import hu.icellmobilsoft.coffee.se.logging.Logger;
 import hu.icellmobilsoft.coffee.se.logging.mdc.MDC;
 import hu.icellmobilsoft.coffee.se.util.string.RandomUtil;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.StreamEntryID;
 import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.XAddParams;
 
 /**
  * Handles publishing messages to a Redis stream using a Jedis client. This class interacts with Redis streams to publish messages with optional
@@ -40,7 +51,9 @@ import redis.clients.jedis.UnifiedJedis;
  * @since 2.7.0
  */
 public class RedisStreamPublisher {
-    private final UnifiedJedis jedis;
+    private static final Logger log = Logger.getLogger(RedisStreamPublisher.class);
+
+    private final String configKey;
     private final String group;
 
     /**
@@ -52,7 +65,7 @@ public class RedisStreamPublisher {
      *            the group identifier used to determine the stream key for Redis operations
      */
     public RedisStreamPublisher(String configKey, String group) {
-        jedis = JedisConnectionCache.get(configKey);
+        this.configKey = configKey;
         this.group = group;
     }
 
@@ -80,7 +93,102 @@ public class RedisStreamPublisher {
      */
     public Optional<StreamEntryID> publish(String streamMessage, Map<String, String> parameters) {
         Map<String, String> jedisMessage = createJedisMessage(streamMessage, parameters);
-        return Optional.ofNullable(jedis.xadd(RedisStreamUtil.streamKey(group), StreamEntryID.NEW_ENTRY, jedisMessage));
+        return Optional.ofNullable(jedis().xadd(RedisStreamUtil.streamKey(group), StreamEntryID.NEW_ENTRY, jedisMessage));
+    }
+
+    /**
+     * Publishes all messages to a Redis stream, with pipelines of {@link RedisConfig#getBulkChunkSize()} XADD commands.
+     *
+     * @param streamMessages
+     *            The messages to be published to the Redis stream. Cannot be null.
+     * @return the ids of the published stream entries and the achieved throughput
+     * @throws RedisStreamPublishException
+     *             if a pipeline has failed, with the ids of the stream entries added before
+     */
+    public RedisStreamPublishResult publishAll(Collection<String> streamMessages) {
+        return publishAll(streamMessages.stream(), new RedisConfig(configKey).getBulkChunkSize());
+    }
+
+    /**
+     * Publishes all messages to a Redis stream, with pipelines of {@code batchSize} XADD commands.
+     *
+     * @param streamMessages
+     *            The messages to be published to the Redis stream, consumed lazily. Cannot be null.
+     * @param batchSize
+     *            number of XADD commands sent in one pipeline
+     * @return the ids of the published stream entries and the achieved throughput
+     * @throws RedisStreamPublishException
+     *             if a pipeline has failed, with the ids of the stream entries added before
+     */
+    public RedisStreamPublishResult publishAll(Stream<String> streamMessages, int batchSize) {
+        return publishAll(streamMessages, batchSize, 0);
+    }
+
+    /**
+     * Publishes all messages to a Redis stream, with pipelines of {@code batchSize} XADD commands. The message map is reused for every XADD, as the
+     * command arguments are serialized when the command is added to the pipeline. If a pipeline or one of its XADD commands fails, the following
+     * messages are not published, and a {@link RedisStreamPublishException} is thrown with the ids of the stream entries added before.
+     *
+     * @param streamMessages
+     *            The messages to be published to the Redis stream, consumed lazily. Cannot be null.
+     * @param batchSize
+     *            number of XADD commands sent in one pipeline
+     * @param maxLen
+     *            if positive, the stream is trimmed to about {@code maxLen} entries (XADD MAXLEN ~), to limit the memory used by a flood of messages
+     * @return the ids of the published stream entries and the achieved throughput
+     * @throws RedisStreamPublishException
+     *             if a pipeline has failed, with the ids of the stream entries added before
+     */
+    public RedisStreamPublishResult publishAll(Stream<String> streamMessages, int batchSize, long maxLen) {
+        int size = Math.max(1, batchSize);
+        String streamKey = RedisStreamUtil.streamKey(group);
+        XAddParams xAddParams = XAddParams.xAddParams();
+        if (maxLen > 0) {
+            xAddParams.maxLen(maxLen).approximateTrimming();
+        }
+        Map<String, String> jedisMessage = new HashMap<>();
+        List<StreamEntryID> entryIds = new ArrayList<>();
+        List<Response<StreamEntryID>> responses = new ArrayList<>(size);
+
+        long start = System.nanoTime();
+        Iterator<String> iterator = streamMessages.iterator();
+        while (iterator.hasNext()) {
+            try (AbstractPipeline pipeline = jedis().pipelined()) {
+                while (iterator.hasNext() && responses.size() < size) {
+                    jedisMessage.put(IRedisStreamConstant.Common.DATA_KEY_FLOW_ID, getFlowIdMessage(null));
+                    jedisMessage.put(IRedisStreamConstant.Common.DATA_KEY_MESSAGE, iterator.next());
+                    responses.add(pipeline.xadd(streamKey, xAddParams, jedisMessage));
+                }
+                pipeline.sync();
+            } catch (JedisException e) {
+                // the pipeline was not executed, or its replies were lost
+                throw publishFailed(streamKey, entryIds, responses.size(), start, e);
+            }
+            JedisException failure = null;
+            int failed = 0;
+            for (Response<StreamEntryID> response : responses) {
+                try {
+                    entryIds.add(response.get());
+                } catch (JedisException e) {
+                    failure = failure == null ? e : failure;
+                    failed++;
+                }
+            }
+            if (failure != null) {
+                throw publishFailed(streamKey, entryIds, failed, start, failure);
+            }
+            responses.clear();
+        }
+        RedisStreamPublishResult result = new RedisStreamPublishResult(entryIds, Duration.ofNanos(System.nanoTime() - start));
+        log.info("Published [{0}] messages to stream [{1}] in [{2}]ms, [{3}] messages/sec", result.getMessageCount(), streamKey,
+                result.getDuration().toMillis(), Math.round(result.getMessagesPerSecond()));
+        return result;
+    }
+
+    private RedisStreamPublishException publishFailed(String streamKey, List<StreamEntryID> entryIds, int failed, long start, JedisException cause) {
+        RedisStreamPublishResult result = new RedisStreamPublishResult(entryIds, Duration.ofNanos(System.nanoTime() - start));
+        return new RedisStreamPublishException("Publishing to stream [" + streamKey + "] failed after [" + result.getMessageCount() + "] messages, ["
+                + failed + "] messages of the pipeline failed: " + cause.getLocalizedMessage(), result, cause);
     }
 
     /**
@@ -120,4 +228,9 @@ public class RedisStreamPublisher {
                 .map(extension -> flowIdMessage + "_" + extension)
                 .orElse(flowIdMessage);
     }
+
+    private UnifiedJedis jedis() {
+        // resolved on every call, so a re-created connection pool of the config key is used
+        return JedisConnectionCache.get(configKey);
+    }
 }
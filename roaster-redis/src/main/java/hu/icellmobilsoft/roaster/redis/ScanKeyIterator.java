@@ -0,0 +1,71 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import redis.clients.jedis.ScanIteration;
+import redis.clients.jedis.UnifiedJedis;
+
+/**
+ * Lazy iterator of the keys matching a pattern, with the cursor based SCAN command. The next SCAN page is requested only when the previous
+ * one is consumed, so the server is never blocked and the keys are never collected into the memory. As SCAN guarantees, every key existing
+ * during the whole iteration is returned, but a key can be returned more than once. In cluster mode the nodes are scanned one after the other.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+class ScanKeyIterator implements Iterator<String> {
+
+    private final ScanIteration scanIteration;
+    private Iterator<String> page = Collections.emptyIterator();
+
+    /**
+     * Creates a new {@link ScanKeyIterator} instance.
+     *
+     * @param jedis
+     *            jedis connection
+     * @param pattern
+     *            glob-style key pattern, like {@code "myTest:*"}
+     * @param count
+     *            number of keys to scan in one SCAN command (COUNT hint)
+     */
+    ScanKeyIterator(UnifiedJedis jedis, String pattern, int count) {
+        scanIteration = jedis.scanIteration(count, pattern);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext() && !scanIteration.isIterationCompleted()) {
+            page = scanIteration.nextBatchList().iterator();
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+}
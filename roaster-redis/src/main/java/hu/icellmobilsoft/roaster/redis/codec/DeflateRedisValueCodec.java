@@ -0,0 +1,103 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import hu.icellmobilsoft.coffee.se.api.exception.BaseException;
+import hu.icellmobilsoft.coffee.se.api.exception.TechnicalException;
+import hu.icellmobilsoft.coffee.se.api.exception.enums.CoffeeFaultType;
+
+/**
+ * {@link RedisValueCodec} compressing the bytes of another codec with {@link Deflater} ({@code roaster.redis.${configKey}.compression: deflate}).
+ * The {@link Deflater#BEST_SPEED} level is used, as the goal is to reduce the payload size with low CPU cost.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class DeflateRedisValueCodec implements RedisValueCodec {
+
+    /**
+     * Constant <code>NAME="deflate"</code>
+     */
+    public static final String NAME = "deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final RedisValueCodec delegate;
+
+    /**
+     * Creates a new {@link DeflateRedisValueCodec} instance.
+     *
+     * @param delegate
+     *            codec of the uncompressed bytes
+     */
+    public DeflateRedisValueCodec(RedisValueCodec delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName() + "+" + NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws BaseException {
+        byte[] data = delegate.encode(value);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> c) throws BaseException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 2);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("truncated deflate data");
+                }
+                out.write(buffer, 0, length);
+            }
+            return delegate.decode(out.toByteArray(), c);
+        } catch (DataFormatException e) {
+            throw new TechnicalException(CoffeeFaultType.DTO_CONVERSION_FAILED, "Failed to inflate value: " + e.getLocalizedMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis.codec;
+
+import java.nio.charset.StandardCharsets;
+
+import hu.icellmobilsoft.coffee.se.api.exception.BaseException;
+import hu.icellmobilsoft.coffee.tool.utils.json.JsonUtil;
+
+/**
+ * Default {@link RedisValueCodec}, stores the values as UTF-8 JSON text with {@link JsonUtil}. {@link String} values are returned as stored,
+ * without JSON parsing.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class JsonRedisValueCodec implements RedisValueCodec {
+
+    /**
+     * Constant <code>NAME="json"</code>
+     */
+    public static final String NAME = "json";
+
+    /**
+     * Default constructor, constructs a new object.
+     */
+    public JsonRedisValueCodec() {
+        super();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws BaseException {
+        return JsonUtil.toJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T decode(byte[] data, Class<T> c) throws BaseException {
+        String value = new String(data, StandardCharsets.UTF_8);
+        return c == String.class ? (T) value : JsonUtil.toObject(value, c);
+    }
+}
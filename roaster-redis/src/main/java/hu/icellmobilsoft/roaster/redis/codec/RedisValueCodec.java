@@ -0,0 +1,67 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis.codec;
+
+import hu.icellmobilsoft.coffee.se.api.exception.BaseException;
+
+/**
+ * Converts the values stored by {@link hu.icellmobilsoft.roaster.redis.RedisHandler} to and from the bytes sent to REDIS.<br>
+ * The codec is selected by name per redis config key ({@code roaster.redis.${configKey}.codec}). Besides the built-in {@value JsonRedisValueCodec#NAME}
+ * and {@value SmileRedisValueCodec#NAME} codecs, custom implementations (for example LZ4 or zstd compressed ones) can be registered with
+ * {@link java.util.ServiceLoader}, in a {@code META-INF/services/hu.icellmobilsoft.roaster.redis.codec.RedisValueCodec} file.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public interface RedisValueCodec {
+
+    /**
+     * Name of the codec, used in the {@code roaster.redis.${configKey}.codec} config.
+     *
+     * @return codec name
+     */
+    String getName();
+
+    /**
+     * Encodes the value to bytes.
+     *
+     * @param value
+     *            value to encode
+     * @return encoded value
+     * @throws BaseException
+     *             if the value can not be encoded
+     */
+    byte[] encode(Object value) throws BaseException;
+
+    /**
+     * Decodes the bytes to a value of the given class.
+     *
+     * @param <T>
+     *            generic type
+     * @param data
+     *            encoded value
+     * @param c
+     *            value class
+     * @return decoded value
+     * @throws BaseException
+     *             if the data can not be decoded
+     */
+    <T> T decode(byte[] data, Class<T> c) throws BaseException;
+}
@@ -0,0 +1,98 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis.codec;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import hu.icellmobilsoft.coffee.se.api.exception.BaseException;
+import hu.icellmobilsoft.coffee.se.api.exception.TechnicalException;
+import hu.icellmobilsoft.coffee.se.api.exception.enums.CoffeeFaultType;
+import hu.icellmobilsoft.roaster.redis.RedisConfig;
+
+/**
+ * Cache for {@link RedisValueCodec} instances based on {@link RedisConfig} keys. The codec is selected by {@link RedisConfig#getCodec()} and is
+ * wrapped by the compression of {@link RedisConfig#getCompression()}.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class RedisValueCodecCache {
+
+    /**
+     * Constant <code>NO_COMPRESSION="none"</code>
+     */
+    public static final String NO_COMPRESSION = "none";
+
+    private static final Map<String, RedisValueCodec> CODEC_BY_CONFIG_KEY = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RedisValueCodecCache() {
+    }
+
+    /**
+     * Retrieves the {@link RedisValueCodec} associated with the provided configuration key. If no instance exists for the given key, a new one is
+     * created based on the corresponding {@link RedisConfig}.
+     *
+     * @param configKey
+     *            the configuration key used to retrieve or create a {@link RedisValueCodec} instance
+     * @return the {@link RedisValueCodec} instance associated with the given configuration key
+     * @throws BaseException
+     *             if the configured codec or compression is unknown
+     */
+    public static RedisValueCodec get(String configKey) throws BaseException {
+        RedisValueCodec codec = CODEC_BY_CONFIG_KEY.get(configKey);
+        if (codec == null) {
+            codec = create(new RedisConfig(configKey));
+            RedisValueCodec previous = CODEC_BY_CONFIG_KEY.putIfAbsent(configKey, codec);
+            return previous != null ? previous : codec;
+        }
+        return codec;
+    }
+
+    private static RedisValueCodec create(RedisConfig config) throws BaseException {
+        RedisValueCodec codec = findCodec(config);
+        String compression = config.getCompression();
+        if (NO_COMPRESSION.equals(compression)) {
+            return codec;
+        } else if (DeflateRedisValueCodec.NAME.equals(compression)) {
+            return new DeflateRedisValueCodec(codec);
+        }
+        throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, "Unknown redis value compression [" + compression + "]!");
+    }
+
+    private static RedisValueCodec findCodec(RedisConfig config) throws BaseException {
+        String name = config.getCodec();
+        if (JsonRedisValueCodec.NAME.equals(name)) {
+            return new JsonRedisValueCodec();
+        } else if (SmileRedisValueCodec.NAME.equals(name)) {
+            return new SmileRedisValueCodec();
+        }
+        for (RedisValueCodec codec : ServiceLoader.load(RedisValueCodec.class)) {
+            if (name.equals(codec.getName())) {
+                return codec;
+            }
+        }
+        throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, "Unknown redis value codec [" + name + "]!");
+    }
+}
@@ -0,0 +1,101 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.redis.codec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import hu.icellmobilsoft.coffee.se.api.exception.BaseException;
+import hu.icellmobilsoft.coffee.se.api.exception.TechnicalException;
+import hu.icellmobilsoft.coffee.se.api.exception.enums.CoffeeFaultType;
+
+/**
+ * {@link RedisValueCodec} with the Jackson Smile binary JSON format. The values are mapped by their fields, like the {@value JsonRedisValueCodec#NAME}
+ * codec, but the numbers are stored in binary and the repeated property names and short string values are written only once per value, so
+ * the stored values are smaller and faster to read and write than the JSON text.
+ * <p>
+ * The values are read with the requested type only (no polymorphic type information is stored), so reading a value can not instantiate other
+ * classes than the ones of the requested type.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class SmileRedisValueCodec implements RedisValueCodec {
+
+    /**
+     * Constant <code>NAME="smile"</code>
+     */
+    public static final String NAME = "smile";
+
+    private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+
+    /**
+     * Default constructor, constructs a new object.
+     */
+    public SmileRedisValueCodec() {
+        super();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws BaseException {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new TechnicalException(CoffeeFaultType.DTO_CONVERSION_FAILED, "Failed to write value to Smile: " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> c) throws BaseException {
+        try {
+            return OBJECT_MAPPER.readValue(data, c);
+        } catch (IOException e) {
+            throw new TechnicalException(CoffeeFaultType.DTO_CONVERSION_FAILED,
+                    "Failed to read Smile value to type [" + c.getSimpleName() + "]: " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        SmileFactory smileFactory = SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build();
+        ObjectMapper objectMapper = new SmileMapper(smileFactory).findAndRegisterModules();
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // dates are stored in ISO format, like in the JSON codec
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        // the values are mapped by their fields, like in the JSON codec
+        objectMapper.setVisibility(PropertyAccessor.IS_GETTER, JsonAutoDetect.Visibility.NONE);
+        objectMapper.setVisibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE);
+        objectMapper.setVisibility(PropertyAccessor.SETTER, JsonAutoDetect.Visibility.NONE);
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        return objectMapper;
+    }
+}
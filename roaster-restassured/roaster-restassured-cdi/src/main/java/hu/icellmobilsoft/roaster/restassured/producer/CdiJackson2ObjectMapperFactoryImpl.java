@@ -27,7 +27,9 @@ import hu.icellmobilsoft.roaster.restassured.se.producer.Jackson2ObjectMapperFac
 /**
  * CDI Jackson2ObjectMapperFactory implementation.<br>
  * <br>
- * We need a bigger scope than {@link Dependent} because then we won't have access to retrieve and manipulate the objectMapper.
+ * We need a bigger scope than {@link Dependent} because then we won't have access to retrieve and manipulate the objectMapper.<br>
+ * A new instance per scope is cheap, every instance uses the shared ObjectMapper of {@link Jackson2ObjectMapperFactoryImpl} by default.
+ * {@link #getObjectMapper()} gives the instance an own copy of it, so reconfiguring the returned ObjectMapper affects only this instance.
  *
  * @author imre.scheffer
  * @see ObjectMapperConfigProducer
@@ -57,8 +57,8 @@ public class RestAssuredConfigProducer {
      * &#64;JSON
      * private RestAssuredConfig restAssuredConfig;
      * 
-     * ((Jackson2ObjectMapperFactoryImpl) restAssuredConfig.getObjectMapperConfig().jackson2ObjectMapperFactory()).getObjectMapper()
-     *         .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+     * ((Jackson2ObjectMapperFactoryImpl) restAssuredConfig.getObjectMapperConfig().jackson2ObjectMapperFactory())
+     *         .withObjectMapper(Jackson2ObjectMapperFactoryImpl.createDefaultObjectMapper().configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true));
      * </pre>
      * 
      * @return JSON based RestAssuredConfig
@@ -0,0 +1,44 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.log;
+
+/**
+ * When to log the RestAssured request and response
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public enum LogMode {
+
+    /**
+     * Request and response are never logged
+     */
+    NEVER,
+
+    /**
+     * Request and response are always logged
+     */
+    ALWAYS,
+
+    /**
+     * Request and response are logged only if the response validation fails. The request log is buffered until the validation.
+     */
+    ON_FAILURE
+}
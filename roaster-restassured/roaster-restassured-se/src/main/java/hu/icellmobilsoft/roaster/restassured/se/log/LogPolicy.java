@@ -0,0 +1,194 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.log;
+
+import java.io.PrintStream;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+
+/**
+ * Logging policy of the RestAssured requests and responses, read from microprofile config.<br>
+ * General pattern is "{@code roaster.restassured.log.${setting}}"
+ *
+ * ie.:
+ *
+ * <pre>
+ *  roaster:
+ *    restassured:
+ *      log:
+ *        mode: ON_FAILURE
+ *        maxLength: 10000
+ *        prettyPrint: false
+ * </pre>
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class LogPolicy {
+
+    /**
+     * Constant <code>LOG_PREFIX="roaster.restassured.log"</code>
+     */
+    public static final String LOG_PREFIX = "roaster.restassured.log";
+
+    /**
+     * Constant <code>MODE="mode"</code>
+     */
+    public static final String MODE = "mode";
+    /**
+     * Constant <code>MAX_LENGTH="maxLength"</code>
+     */
+    public static final String MAX_LENGTH = "maxLength";
+    /**
+     * Constant <code>PRETTY_PRINT="prettyPrint"</code>
+     */
+    public static final String PRETTY_PRINT = "prettyPrint";
+    /**
+     * Constant <code>KEY_DELIMITER="."</code>
+     */
+    public static final String KEY_DELIMITER = ".";
+
+    /**
+     * Logs everything, the behaviour before the configurable policy
+     */
+    public static final LogPolicy ALWAYS = new LogPolicy(LogMode.ALWAYS, -1, true);
+
+    private final LogMode mode;
+    private final int maxLength;
+    private final boolean prettyPrint;
+    private final PrintStream logStream;
+
+    /**
+     * Creates a new {@link LogPolicy} instance.
+     *
+     * @param mode
+     *            when to log
+     * @param maxLength
+     *            maximum number of logged characters of one request or response, not limited if not positive
+     * @param prettyPrint
+     *            whether to pretty print the body
+     */
+    public LogPolicy(LogMode mode, int maxLength, boolean prettyPrint) {
+        this.mode = mode;
+        this.maxLength = maxLength;
+        this.prettyPrint = prettyPrint;
+        logStream = maxLength > 0 ? new TruncatingPrintStream(System.out, maxLength) : null;
+    }
+
+    /**
+     * Reads the logging policy from microprofile config
+     *
+     * @return the configured policy, by default everything is logged
+     */
+    public static LogPolicy fromConfig() {
+        Config config = ConfigProvider.getConfig();
+        return new LogPolicy(
+                config.getOptionalValue(joinKey(MODE), LogMode.class).orElse(LogMode.ALWAYS),
+                config.getOptionalValue(joinKey(MAX_LENGTH), Integer.class).orElse(-1),
+                config.getOptionalValue(joinKey(PRETTY_PRINT), Boolean.class).orElse(true));
+    }
+
+    /**
+     * Sets the request logging according to the policy
+     *
+     * @param requestSpecification
+     *            request specification
+     * @return request specification with logging
+     */
+    public RequestSpecification apply(RequestSpecification requestSpecification) {
+        switch (mode) {
+        case ALWAYS:
+            return withStream(requestSpecification).log().all(prettyPrint);
+        case ON_FAILURE:
+            return withStream(requestSpecification).log().ifValidationFails(LogDetail.ALL, prettyPrint);
+        default:
+            return requestSpecification;
+        }
+    }
+
+    /**
+     * Sets the response logging according to the policy
+     *
+     * @param validatableResponse
+     *            response before validation
+     * @return response with logging
+     */
+    public ValidatableResponse apply(ValidatableResponse validatableResponse) {
+        switch (mode) {
+        case ALWAYS:
+            return validatableResponse.log().all(prettyPrint);
+        case ON_FAILURE:
+            return validatableResponse.log().ifValidationFails(LogDetail.ALL, prettyPrint);
+        default:
+            return validatableResponse;
+        }
+    }
+
+    private RequestSpecification withStream(RequestSpecification requestSpecification) {
+        if (logStream == null) {
+            return requestSpecification;
+        }
+        RestAssuredConfig config = SpecificationQuerier.query(requestSpecification).getConfig();
+        if (config == null) {
+            config = RestAssuredConfig.config();
+        }
+        // the response log uses the stream of the request config too
+        return requestSpecification
+                .config(config.logConfig(config.getLogConfig().defaultStream(logStream)));
+    }
+
+    /**
+     * Getter for the field {@code mode}.
+     *
+     * @return when to log
+     */
+    public LogMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Getter for the field {@code maxLength}.
+     *
+     * @return maximum number of logged characters of one request or response, not limited if not positive
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Getter for the field {@code prettyPrint}.
+     *
+     * @return whether to pretty print the body
+     */
+    public boolean isPrettyPrint() {
+        return prettyPrint;
+    }
+
+    private static String joinKey(String key) {
+        return String.join(KEY_DELIMITER, LOG_PREFIX, key);
+    }
+}
@@ -0,0 +1,74 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.log;
+
+import java.io.PrintStream;
+
+/**
+ * {@link PrintStream} which truncates the printed strings above a maximum length. RestAssured prints the whole request or response log with one
+ * {@code println} call, so the limit applies to one logged request or response.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class TruncatingPrintStream extends PrintStream {
+
+    private final int maxLength;
+
+    /**
+     * Creates a new {@link TruncatingPrintStream} instance.
+     *
+     * @param delegate
+     *            the stream to print to
+     * @param maxLength
+     *            maximum number of printed characters of one string
+     */
+    public TruncatingPrintStream(PrintStream delegate, int maxLength) {
+        super(delegate, true);
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void print(String s) {
+        super.print(truncate(s));
+    }
+
+    @Override
+    public void println(String x) {
+        super.println(truncate(x));
+    }
+
+    @Override
+    public void print(Object obj) {
+        print(String.valueOf(obj));
+    }
+
+    @Override
+    public void println(Object x) {
+        println(String.valueOf(x));
+    }
+
+    private String truncate(String s) {
+        if (s == null || s.length() <= maxLength) {
+            return s;
+        }
+        return s.substring(0, maxLength) + "... [" + (s.length() - maxLength) + " characters truncated]";
+    }
+}
@@ -0,0 +1,74 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.metrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import hu.icellmobilsoft.roaster.jaxrs.se.metrics.CallMetricsRegistry;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter measuring the calls into the {@link CallMetricsRegistry}, the same registry as used by the JAX-RS based processors. The
+ * latency is measured around the rest of the filter chain, the request size is the size of the serialized body, the response size is the
+ * size of the (decoded) response body.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class MetricsFilter implements Filter {
+
+    private final String uriTemplate;
+
+    /**
+     * Creates a new {@link MetricsFilter} instance.
+     *
+     * @param uriTemplate
+     *            URI template of the endpoint (before the path parameters are resolved), the calls are grouped by the HTTP method and this
+     *            template
+     */
+    public MetricsFilter(String uriTemplate) {
+        this.uriTemplate = Objects.requireNonNull(uriTemplate, "uriTemplate must not be null!");
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long startNanos = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long durationNanos = System.nanoTime() - startNanos;
+        CallMetricsRegistry.record(requestSpec.getMethod() + " " + uriTemplate, response.getStatusCode(), startNanos, durationNanos,
+                bodySize(requestSpec.getBody()), response.asByteArray().length);
+        return response;
+    }
+
+    private static long bodySize(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        return String.valueOf(body).getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -20,24 +20,34 @@
 package hu.icellmobilsoft.roaster.restassured.se.producer;
 
 import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import io.restassured.path.json.mapper.factory.Jackson2ObjectMapperFactory;
 
 /**
- * Jackson2ObjectMapperFactory implementation.
+ * Jackson2ObjectMapperFactory implementation.<br>
+ * <br>
+ * By default every instance uses the same, process-wide {@link ObjectMapper} (see {@link #createDefaultObjectMapper()}), so the module
+ * discovery and the serializer construction happen only once per JVM. The shared mapper is never handed out for modification:
+ * {@link #getObjectMapper()} gives the instance an own copy of it, which can be reconfigured, and an own mapper can be set with
+ * {@link #withObjectMapper(ObjectMapper)}.
  * 
  * @author imre.scheffer
  * @since 0.2.0
  */
 public class Jackson2ObjectMapperFactoryImpl implements Jackson2ObjectMapperFactory {
 
-    private ObjectMapper objectMapper;
+    private volatile Mappers mappers;
 
     /**
      * Default constructor, constructs a new object.
@@ -48,14 +58,17 @@ public class Jackson2ObjectMapperFactoryImpl implements Jackson2ObjectMapperFact
 
     @Override
     public ObjectMapper create(Type cls, String charset) {
-        return getObjectMapper();
+        return getMappers().objectMapper;
     }
 
     /**
-     * Roaster speficikus default JSON ObjectMapper
+     * Creates a new ObjectMapper with the Roaster specific default JSON settings
+     *
+     * @return new ObjectMapper instance
+     * @since 2.8.0
      */
-    protected void initObjectMapper() {
-        objectMapper = new ObjectMapper().findAndRegisterModules();
+    public static ObjectMapper createDefaultObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
         // the time is not written in default "timestamp": 1600871093.907000000 format but in normal ISO format
@@ -67,6 +80,14 @@ public class Jackson2ObjectMapperFactoryImpl implements Jackson2ObjectMapperFact
         objectMapper.setVisibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE);
         objectMapper.setVisibility(PropertyAccessor.SETTER, JsonAutoDetect.Visibility.NONE);
         objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        return objectMapper;
+    }
+
+    /**
+     * Roaster speficikus default JSON ObjectMapper, the shared instance created by {@link #createDefaultObjectMapper()}
+     */
+    protected void initObjectMapper() {
+        mappers = DefaultMappersHolder.DEFAULT;
     }
 
     /**
@@ -77,19 +98,87 @@ public class Jackson2ObjectMapperFactoryImpl implements Jackson2ObjectMapperFact
      * @return itself
      */
     public Jackson2ObjectMapperFactoryImpl withObjectMapper(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this.mappers = objectMapper == null ? null : new Mappers(objectMapper);
         return this;
     }
 
     /**
-     * Getter for {@code objectMapper} field, lazy init can happen
+     * Getter for {@code objectMapper} field, lazy init can happen. The returned mapper can be reconfigured right after the call, it affects only
+     * this instance: the shared default mapper is copied for the instance, and the cached readers and writers are dropped.
      * 
      * @return value of objectMapper field
      */
-    public ObjectMapper getObjectMapper() {
-        if (objectMapper == null) {
-            initObjectMapper();
-        }
+    public synchronized ObjectMapper getObjectMapper() {
+        Mappers current = getMappers();
+        ObjectMapper objectMapper = current == DefaultMappersHolder.DEFAULT ? current.objectMapper.copy() : current.objectMapper;
+        mappers = new Mappers(objectMapper);
         return objectMapper;
     }
+
+    /**
+     * Cached {@link ObjectReader} of the ObjectMapper for the type. Readers are immutable and thread-safe, so the same instance is returned
+     * for the same type until the ObjectMapper is replaced or handed out by {@link #getObjectMapper()}. The JSON responses of
+     * {@code ResponseProcessor} are read with these readers.
+     *
+     * @param type
+     *            type to read
+     * @return ObjectReader for the type
+     * @since 2.8.0
+     */
+    public ObjectReader getObjectReader(Type type) {
+        Objects.requireNonNull(type, "type must not be null!");
+        Mappers current = getMappers();
+        return current.readers.computeIfAbsent(type, t -> current.objectMapper.readerFor(current.objectMapper.constructType(t)));
+    }
+
+    /**
+     * Cached {@link ObjectWriter} of the ObjectMapper for the type. Writers are immutable and thread-safe, so the same instance is returned
+     * for the same type until the ObjectMapper is replaced or handed out by {@link #getObjectMapper()}. The JSON request bodies of
+     * {@code ResponseProcessor} are written with these writers.
+     *
+     * @param type
+     *            type to write
+     * @return ObjectWriter for the type
+     * @since 2.8.0
+     */
+    public ObjectWriter getObjectWriter(Type type) {
+        Objects.requireNonNull(type, "type must not be null!");
+        Mappers current = getMappers();
+        return current.writers.computeIfAbsent(type, t -> current.objectMapper.writerFor(current.objectMapper.constructType(t)));
+    }
+
+    private Mappers getMappers() {
+        Mappers current = mappers;
+        if (current == null) {
+            synchronized (this) {
+                if (mappers == null) {
+                    initObjectMapper();
+                }
+                current = mappers;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * ObjectMapper with its reader and writer caches
+     */
+    private static final class Mappers {
+
+        private final ObjectMapper objectMapper;
+        private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+        private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        private Mappers(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+    }
+
+    /**
+     * Lazy, thread-safe holder of the process-wide default mappers
+     */
+    private static final class DefaultMappersHolder {
+
+        private static final Mappers DEFAULT = new Mappers(createDefaultObjectMapper());
+    }
 }
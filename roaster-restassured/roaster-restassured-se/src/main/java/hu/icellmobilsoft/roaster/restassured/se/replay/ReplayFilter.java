@@ -0,0 +1,145 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.replay;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import hu.icellmobilsoft.roaster.api.TestException;
+import hu.icellmobilsoft.roaster.jaxrs.se.replay.RecordedResponse;
+import hu.icellmobilsoft.roaster.jaxrs.se.replay.ReplayConfig;
+import hu.icellmobilsoft.roaster.jaxrs.se.replay.ReplayMode;
+import hu.icellmobilsoft.roaster.jaxrs.se.replay.ReplayStore;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter recording the responses into the {@link ReplayStore} and serving the calls from the recordings, according to the
+ * {@link ReplayMode}. The same store is used by the JAX-RS based processors, see
+ * {@link hu.icellmobilsoft.roaster.jaxrs.se.replay.ReplayClientFilter}.<br>
+ * <br>
+ * The key of the call is built from the method, the full URI (with query parameters) and the serialized request body. The body is recorded
+ * decoded, so the {@code Content-Encoding} header is not recorded.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class ReplayFilter implements Filter {
+
+    private final ReplayMode mode;
+    private final ReplayStore store;
+
+    /**
+     * Creates a new {@link ReplayFilter} instance.
+     *
+     * @param mode
+     *            working mode
+     * @param store
+     *            store of the recordings
+     */
+    public ReplayFilter(ReplayMode mode, ReplayStore store) {
+        this.mode = Objects.requireNonNull(mode, "mode must not be null!");
+        this.store = Objects.requireNonNull(store, "store must not be null!");
+    }
+
+    /**
+     * Creates the filter from the {@link ReplayConfig}
+     *
+     * @return filter, empty if the mode is {@link ReplayMode#OFF}
+     */
+    public static Optional<ReplayFilter> fromConfig() {
+        ReplayConfig replayConfig = new ReplayConfig();
+        ReplayMode mode = replayConfig.getMode();
+        return mode == ReplayMode.OFF ? Optional.empty() : Optional.of(new ReplayFilter(mode, ReplayStore.fromConfig(replayConfig)));
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String uri = requestSpec.getURI();
+        String key = ReplayStore.key(method, uri, bodyBytes(requestSpec.getBody()));
+        if (mode.isReplaying()) {
+            Optional<RecordedResponse> recorded = store.load(key);
+            if (recorded.isPresent()) {
+                return toResponse(recorded.get());
+            }
+            if (mode == ReplayMode.REPLAY) {
+                throw new TestException("No recorded response of [" + method + " " + uri + "] in [" + store.getDirectory() + "]");
+            }
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (mode.isRecording()) {
+            store.save(key, method, uri, new RecordedResponse(response.getStatusCode(), recordableHeaders(response.getHeaders()), response.asByteArray()));
+        }
+        return response;
+    }
+
+    private static Map<String, List<String>> recordableHeaders(Headers headers) {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        for (Header header : headers) {
+            if (!"Content-Encoding".equalsIgnoreCase(header.getName())) {
+                values.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+            }
+        }
+        return ReplayStore.recordableHeaders(values);
+    }
+
+    private static Response toResponse(RecordedResponse recorded) {
+        List<Header> headers = new ArrayList<>();
+        String contentType = null;
+        for (Map.Entry<String, List<String>> entry : recorded.getHeaders().entrySet()) {
+            for (String value : entry.getValue()) {
+                headers.add(new Header(entry.getKey(), value));
+            }
+            if ("Content-Type".equalsIgnoreCase(entry.getKey()) && !entry.getValue().isEmpty()) {
+                contentType = entry.getValue().get(0);
+            }
+        }
+        ResponseBuilder builder = new ResponseBuilder().setStatusCode(recorded.getStatus())
+                .setStatusLine("HTTP/1.1 " + recorded.getStatus())
+                .setHeaders(new Headers(headers))
+                .setBody(recorded.getBody());
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body == null) {
+            return new byte[0];
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+    }
+}
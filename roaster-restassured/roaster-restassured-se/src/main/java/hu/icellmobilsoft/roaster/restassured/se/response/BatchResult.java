@@ -0,0 +1,131 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.response;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import hu.icellmobilsoft.roaster.api.TestException;
+
+/**
+ * Collected results of a parallel batch of calls, e.g. {@link ResponseProcessor#getJsonAll(Class, List)}. The results are in the order of the
+ * calls, failures of the single calls do not stop the batch.
+ *
+ * @param <RESPONSE>
+ *            response class (any type)
+ * @author agent
+ * @since 2.8.0
+ */
+public class BatchResult<RESPONSE> {
+
+    private final List<CallResult<RESPONSE>> results;
+    private final Duration duration;
+
+    /**
+     * Creates a new {@link BatchResult} instance.
+     *
+     * @param results
+     *            results of the calls in the order of the calls
+     * @param duration
+     *            wall clock duration of the whole batch
+     */
+    public BatchResult(List<CallResult<RESPONSE>> results, Duration duration) {
+        this.results = List.copyOf(Objects.requireNonNull(results, "results"));
+        this.duration = Objects.requireNonNull(duration, "duration");
+    }
+
+    /**
+     * Results of every call in the order of the calls
+     *
+     * @return call results
+     */
+    public List<CallResult<RESPONSE>> getResults() {
+        return results;
+    }
+
+    /**
+     * Responses of the successful calls in the order of the calls
+     *
+     * @return responses
+     */
+    public List<RESPONSE> getResponses() {
+        return results.stream().filter(CallResult::isSuccessful).map(CallResult::getResponse).collect(Collectors.toList());
+    }
+
+    /**
+     * Results of the failed calls in the order of the calls
+     *
+     * @return failed call results
+     */
+    public List<CallResult<RESPONSE>> getFailures() {
+        return results.stream().filter(result -> !result.isSuccessful()).collect(Collectors.toList());
+    }
+
+    /**
+     * Whether every call succeeded
+     *
+     * @return {@code true} if there is no failed call
+     */
+    public boolean isAllSuccessful() {
+        return results.stream().allMatch(CallResult::isSuccessful);
+    }
+
+    /**
+     * Wall clock duration of the whole batch
+     *
+     * @return duration
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Checks that every call succeeded
+     *
+     * @return the responses of the calls in the order of the calls
+     * @throws TestException
+     *             with the report of the failed calls, if any call failed
+     */
+    public List<RESPONSE> assertAllSuccessful() {
+        List<CallResult<RESPONSE>> failures = getFailures();
+        if (!failures.isEmpty()) {
+            TestException exception = new TestException(toString());
+            failures.forEach(failure -> exception.addSuppressed(failure.getFailure()));
+            throw exception;
+        }
+        return getResponses();
+    }
+
+    @Override
+    public String toString() {
+        List<CallResult<RESPONSE>> failures = getFailures();
+        StringBuilder report = new StringBuilder().append("Batch of [")
+                .append(results.size())
+                .append("] calls finished in [")
+                .append(duration.toMillis())
+                .append("] ms, failed: [")
+                .append(failures.size())
+                .append("]");
+        failures.forEach(failure -> report.append(System.lineSeparator()).append(failure));
+        return report.toString();
+    }
+}
@@ -0,0 +1,123 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.response;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Result of one call of a parallel batch, see {@link BatchResult}
+ *
+ * @param <RESPONSE>
+ *            response class (any type)
+ * @author agent
+ * @since 2.8.0
+ */
+public class CallResult<RESPONSE> {
+
+    private final int index;
+    private final Object[] pathParams;
+    private final RESPONSE response;
+    private final Throwable failure;
+    private final Duration duration;
+
+    /**
+     * Creates a new {@link CallResult} instance.
+     *
+     * @param index
+     *            index of the call in the batch
+     * @param pathParams
+     *            path parameters of the call
+     * @param response
+     *            response of the call, {@code null} on failure
+     * @param failure
+     *            failure of the call, {@code null} on success
+     * @param duration
+     *            duration of the call
+     */
+    public CallResult(int index, Object[] pathParams, RESPONSE response, Throwable failure, Duration duration) {
+        this.index = index;
+        this.pathParams = pathParams;
+        this.response = response;
+        this.failure = failure;
+        this.duration = Objects.requireNonNull(duration, "duration");
+    }
+
+    /**
+     * Whether the call succeeded, the response passed the validation
+     *
+     * @return {@code true} if there is no failure
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * Getter for the field {@code index}.
+     *
+     * @return index of the call in the batch
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Getter for the field {@code pathParams}.
+     *
+     * @return path parameters of the call
+     */
+    public Object[] getPathParams() {
+        return pathParams;
+    }
+
+    /**
+     * Getter for the field {@code response}.
+     *
+     * @return response of the call, {@code null} on failure
+     */
+    public RESPONSE getResponse() {
+        return response;
+    }
+
+    /**
+     * Getter for the field {@code failure}.
+     *
+     * @return failure of the call, {@code null} on success
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Getter for the field {@code duration}.
+     *
+     * @return duration of the call
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + index + " " + Arrays.toString(pathParams) + " " + duration.toMillis() + " ms"
+                + (isSuccessful() ? "" : ": " + failure.getClass().getSimpleName() + ": " + failure.getLocalizedMessage());
+    }
+}
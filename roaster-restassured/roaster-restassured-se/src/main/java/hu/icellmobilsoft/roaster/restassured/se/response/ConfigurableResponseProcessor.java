@@ -21,6 +21,7 @@ package hu.icellmobilsoft.roaster.restassured.se.response;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -104,6 +105,24 @@ public class ConfigurableResponseProcessor<RESPONSE> extends ResponseProcessor<R
         headers = config.getHeaders().map(this::parse).orElse(null);
     }
 
+    /**
+     * Constructs a ConfigurableResponseProcessor instance as a cheap copy of an already configured template, without reading the config and
+     * parsing the headers again.
+     *
+     * @param template
+     *            fully configured processor to copy
+     * @throws NullPointerException
+     *             if the provided template is null
+     */
+    public ConfigurableResponseProcessor(ConfigurableResponseProcessor<?> template) {
+        super(template);
+        baseUriKey = template.baseUriKey;
+        path = template.path;
+        headers = template.headers;
+        expectedStatusCode = template.expectedStatusCode;
+        queryParams = template.queryParams == null ? null : new HashMap<>(template.queryParams);
+    }
+
     private Headers parse(String[] headerStrings) {
         List<Header> headerList = new ArrayList<>();
         for (String headerString : headerStrings) {
@@ -129,9 +148,9 @@ public class ConfigurableResponseProcessor<RESPONSE> extends ResponseProcessor<R
     }
 
     @Override
-    protected RESPONSE toResponse(Response response, Class<RESPONSE> responseClass, ResponseSpecification iniResponseSpecification) {
+    protected Response validateResponse(Response response, ResponseSpecification iniResponseSpecification) {
         iniResponseSpecification.statusCode(expectedStatusCode);
-        return super.toResponse(response, responseClass, iniResponseSpecification);
+        return super.validateResponse(response, iniResponseSpecification);
     }
 
     @Override
@@ -20,6 +20,8 @@
 package hu.icellmobilsoft.roaster.restassured.se.response;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import hu.icellmobilsoft.roaster.jaxrs.se.response.ProcessorConfigImpl;
 import hu.icellmobilsoft.roaster.restassured.se.producer.Jackson2ObjectMapperFactoryImpl;
@@ -88,6 +90,11 @@ public class ConfigurableResponseProcessorFactory {
      */
     public static final ResponseSpecification XML_RESPONSE_SPECIFICATION = createXmlResponseSpecification(200);
 
+    /**
+     * Fully configured processors by config key and expected status code, new instances are copied from these
+     */
+    private static final Map<String, ConfigurableResponseProcessor<?>> TEMPLATE_BY_KEY = new ConcurrentHashMap<>();
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -108,7 +115,8 @@ public class ConfigurableResponseProcessorFactory {
     }
 
     /**
-     * Returns a new ConfigurableResponseProcessor instance with config with the given configKey.
+     * Returns a new ConfigurableResponseProcessor instance with config with the given configKey. The config is read and the specifications are
+     * built only on the first call for a configKey and expectedStatusCode pair, later calls return a copy of the cached instance.
      * 
      * @param configKey
      *            config key, e.g.: {@literal testsuite.rest.example}
@@ -119,7 +127,21 @@ public class ConfigurableResponseProcessorFactory {
      *            response class (any type)
      */
     public static <RESPONSE> ConfigurableResponseProcessor<RESPONSE> create(String configKey, int expectedStatusCode) {
-        ConfigurableResponseProcessor<RESPONSE> configurableResponseProcessor = new ConfigurableResponseProcessor<>(
+        ConfigurableResponseProcessor<?> template = TEMPLATE_BY_KEY
+                .computeIfAbsent(configKey + ":" + expectedStatusCode, key -> createTemplate(configKey, expectedStatusCode));
+        return new ConfigurableResponseProcessor<>(template);
+    }
+
+    /**
+     * Clears the cached processor templates, so the next {@link #create(String, int)} call reads the config again. Needed only if the processor
+     * config (e.g. path or headers) is changed at runtime.
+     */
+    public static void clearCache() {
+        TEMPLATE_BY_KEY.clear();
+    }
+
+    private static ConfigurableResponseProcessor<?> createTemplate(String configKey, int expectedStatusCode) {
+        ConfigurableResponseProcessor<?> configurableResponseProcessor = new ConfigurableResponseProcessor<>(
                 new ProcessorConfigImpl(configKey),
                 JSON_REQUEST_SPECIFICATION,
                 XML_REQUEST_SPECIFICATION,
@@ -0,0 +1,145 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+/**
+ * Extracts values from a JSON document by JSON Pointer (RFC 6901, like {@code /items/0/id}) with the Jackson streaming {@link JsonParser}.
+ * Only the requested values are read into {@link JsonNode} trees, every other subtree is skipped without building any object, and the
+ * parsing stops as soon as all the requested values are found.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class JsonStreamExtractor {
+
+    private JsonStreamExtractor() {
+    }
+
+    /**
+     * Extracts the values of the JSON pointers from the JSON stream. The stream is not closed.
+     *
+     * @param objectMapper
+     *            mapper used for creating the parser and the value trees
+     * @param jsonStream
+     *            JSON content
+     * @param jsonPointers
+     *            JSON pointers of the requested values, like {@code /items/0/id}
+     * @return values by the given JSON pointers in the requested order, {@link MissingNode} if the document does not contain the pointer
+     * @throws IOException
+     *             if the stream can not be read or it is not a valid JSON
+     * @throws IllegalArgumentException
+     *             if a JSON pointer is invalid
+     */
+    public static Map<String, JsonNode> extract(ObjectMapper objectMapper, InputStream jsonStream, Collection<String> jsonPointers)
+            throws IOException {
+        Objects.requireNonNull(objectMapper, "objectMapper must not be null!");
+        return extract(objectMapper.readerFor(JsonNode.class), jsonStream, jsonPointers);
+    }
+
+    /**
+     * Extracts the values of the JSON pointers from the JSON stream with a (cached) reader, see
+     * {@link hu.icellmobilsoft.roaster.restassured.se.producer.Jackson2ObjectMapperFactoryImpl#getObjectReader(java.lang.reflect.Type)}. The
+     * stream is not closed.
+     *
+     * @param objectReader
+     *            reader used for creating the parser and the value trees
+     * @param jsonStream
+     *            JSON content
+     * @param jsonPointers
+     *            JSON pointers of the requested values, like {@code /items/0/id}
+     * @return values by the given JSON pointers in the requested order, {@link MissingNode} if the document does not contain the pointer
+     * @throws IOException
+     *             if the stream can not be read or it is not a valid JSON
+     * @throws IllegalArgumentException
+     *             if a JSON pointer is invalid
+     */
+    public static Map<String, JsonNode> extract(ObjectReader objectReader, InputStream jsonStream, Collection<String> jsonPointers)
+            throws IOException {
+        Objects.requireNonNull(objectReader, "objectReader must not be null!");
+        Objects.requireNonNull(jsonStream, "jsonStream must not be null!");
+        Objects.requireNonNull(jsonPointers, "jsonPointers must not be null!");
+
+        Set<String> pending = new LinkedHashSet<>();
+        for (String jsonPointer : jsonPointers) {
+            pending.add(JsonPointer.compile(jsonPointer).toString());
+        }
+        Map<String, JsonNode> found = new HashMap<>();
+        try (JsonParser parser = objectReader.createParser(jsonStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            JsonToken token;
+            while (!pending.isEmpty() && (token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME || token.isStructEnd()) {
+                    continue;
+                }
+                String pointer = currentPointer(parser, token);
+                if (pending.remove(pointer)) {
+                    JsonNode value = objectReader.readTree(parser);
+                    JsonNode node = value == null ? NullNode.getInstance() : value;
+                    found.put(pointer, node);
+                    // pointers below the read value are resolved from the tree
+                    pending.removeIf(child -> {
+                        if (isParentOf(pointer, child)) {
+                            found.put(child, node.at(child.substring(pointer.length())));
+                            return true;
+                        }
+                        return false;
+                    });
+                } else if (token.isStructStart() && pending.stream().noneMatch(p -> isParentOf(pointer, p))) {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+        for (String jsonPointer : jsonPointers) {
+            result.put(jsonPointer, found.getOrDefault(JsonPointer.compile(jsonPointer).toString(), MissingNode.getInstance()));
+        }
+        return result;
+    }
+
+    private static String currentPointer(JsonParser parser, JsonToken token) {
+        // after a start token the parser is already in the context of the new object/array
+        return token.isStructStart() ? parser.getParsingContext().getParent().pathAsPointer().toString()
+                : parser.getParsingContext().pathAsPointer().toString();
+    }
+
+    private static boolean isParentOf(String parent, String child) {
+        return child.startsWith(parent + JsonPointer.SEPARATOR);
+    }
+}
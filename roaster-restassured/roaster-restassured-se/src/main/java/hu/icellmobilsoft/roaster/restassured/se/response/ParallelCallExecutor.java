@@ -0,0 +1,145 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import hu.icellmobilsoft.roaster.api.TestException;
+
+/**
+ * Executes independent calls in parallel with a concurrency limit and collects every result into a {@link BatchResult}.<br>
+ * <br>
+ * The calls run on virtual threads if the runtime supports them (Java 21+), otherwise on platform threads. The default concurrency limit can be
+ * set with the {@value #MAX_CONCURRENCY_KEY} config key.
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+public class ParallelCallExecutor {
+
+    /**
+     * Config key of the default concurrency limit
+     */
+    public static final String MAX_CONCURRENCY_KEY = "roaster.restassured.parallel.maxConcurrency";
+
+    /**
+     * Default concurrency limit, if not configured
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ParallelCallExecutor() {
+    }
+
+    /**
+     * Default concurrency limit from {@value #MAX_CONCURRENCY_KEY} config key
+     *
+     * @return configured concurrency limit, default {@value #DEFAULT_MAX_CONCURRENCY}
+     */
+    public static int getDefaultMaxConcurrency() {
+        return ConfigProvider.getConfig().getOptionalValue(MAX_CONCURRENCY_KEY, Integer.class).orElse(DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Executes the call for every path parameter array in parallel. Failures of the single calls are collected, they do not stop the batch.
+     *
+     * @param <RESPONSE>
+     *            response class (any type)
+     * @param pathParamsList
+     *            path parameters of the calls
+     * @param maxConcurrency
+     *            maximum number of calls executed at the same time
+     * @param call
+     *            the call to execute with the path parameters
+     * @return results of the calls in the order of the {@code pathParamsList}
+     */
+    public static <RESPONSE> BatchResult<RESPONSE> execute(List<Object[]> pathParamsList, int maxConcurrency, Function<Object[], RESPONSE> call) {
+        Objects.requireNonNull(pathParamsList, "pathParamsList");
+        Objects.requireNonNull(call, "call");
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+
+        long start = System.nanoTime();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<CompletableFuture<CallResult<RESPONSE>>> futures = new ArrayList<>(pathParamsList.size());
+        ExecutorService executor = createExecutor();
+        try {
+            for (int i = 0; i < pathParamsList.size(); i++) {
+                int index = i;
+                Object[] pathParams = pathParamsList.get(i);
+                acquire(permits);
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return call(index, pathParams, call);
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+            List<CallResult<RESPONSE>> results = new ArrayList<>(futures.size());
+            futures.forEach(future -> results.add(future.join()));
+            return new BatchResult<>(results, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static <RESPONSE> CallResult<RESPONSE> call(int index, Object[] pathParams, Function<Object[], RESPONSE> call) {
+        long start = System.nanoTime();
+        try {
+            RESPONSE response = call.apply(pathParams);
+            return new CallResult<>(index, pathParams, response, null, Duration.ofNanos(System.nanoTime() - start));
+        } catch (RuntimeException | AssertionError e) {
+            return new CallResult<>(index, pathParams, null, e, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TestException("Interrupted while waiting for a free call slot", e);
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        try {
+            // Java 21+, the project is compiled for older runtimes too
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // the semaphore limits the number of used threads
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -19,12 +19,40 @@
  */
 package hu.icellmobilsoft.roaster.restassured.se.response;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
 import org.eclipse.microprofile.config.ConfigProvider;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import hu.icellmobilsoft.roaster.api.TestException;
+import hu.icellmobilsoft.roaster.jaxrs.se.metrics.CallMetricsRegistry;
+import hu.icellmobilsoft.roaster.restassured.se.log.LogPolicy;
+import hu.icellmobilsoft.roaster.restassured.se.metrics.MetricsFilter;
+import hu.icellmobilsoft.roaster.restassured.se.producer.Jackson2ObjectMapperFactoryImpl;
+import hu.icellmobilsoft.roaster.restassured.se.replay.ReplayFilter;
 import io.restassured.RestAssured;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.mapper.factory.Jackson2ObjectMapperFactory;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
+import io.restassured.specification.SpecificationQuerier;
 
 /**
  * Base Response REST handler
@@ -41,6 +69,11 @@ public abstract class ResponseProcessor<RESPONSE> {
     private final ResponseSpecification jsonResponseSpecification;
     private final ResponseSpecification xmlResponseSpecification;
 
+    /**
+     * Logging of the requests and responses, by default read from {@value LogPolicy#LOG_PREFIX} config
+     */
+    private LogPolicy logPolicy;
+
     /**
      * Constructs a ResponseProcessor instance with specific request and response specifications for handling JSON and XML data formats.
      */
@@ -70,6 +103,27 @@ public abstract class ResponseProcessor<RESPONSE> {
         this.xmlRequestSpecification = xmlRequestSpecification;
         this.jsonResponseSpecification = jsonResponseSpecification;
         this.xmlResponseSpecification = xmlResponseSpecification;
+        logPolicy = LogPolicy.fromConfig();
+    }
+
+    /**
+     * Constructs a ResponseProcessor instance as a copy of the template without reading any config. The request specifications are shared, the
+     * response specifications are copied, so the expectations of the new instance can be modified independently of the template.
+     *
+     * @param template
+     *            fully configured processor to copy
+     */
+    protected ResponseProcessor(ResponseProcessor<?> template) {
+        Objects.requireNonNull(template, "template must not be null!");
+        jsonRequestSpecification = template.jsonRequestSpecification;
+        xmlRequestSpecification = template.xmlRequestSpecification;
+        jsonResponseSpecification = copy(template.jsonResponseSpecification);
+        xmlResponseSpecification = copy(template.xmlResponseSpecification);
+        logPolicy = template.logPolicy;
+    }
+
+    private static ResponseSpecification copy(ResponseSpecification responseSpecification) {
+        return responseSpecification == null ? null : new ResponseSpecBuilder().addResponseSpecification(responseSpecification).build();
     }
 
     /**
@@ -113,6 +167,73 @@ public abstract class ResponseProcessor<RESPONSE> {
         return toJsonResponse(response, responseClass);
     }
 
+    /**
+     * Call HTTP GET method and extract only the values of the given JSON pointers from the JSON response, without deserializing the whole
+     * response. See {@link JsonStreamExtractor}.
+     *
+     * @param jsonPointers
+     *            JSON pointers of the requested values, like {@code /items/0/id}
+     * @param pathParams
+     *            The path parameters. See {@link RequestSpecification#get(String, Object...)} pathParams.
+     * @return values by the given JSON pointers in the requested order, {@link com.fasterxml.jackson.databind.node.MissingNode} if the response
+     *         does not contain the pointer
+     */
+    public Map<String, JsonNode> getJsonValues(List<String> jsonPointers, Object... pathParams) {
+        RequestSpecification rSpec = createJsonRequestSpecification();
+        Response response = rSpec.get(path(), pathParams);
+        return toJsonValues(response, jsonPointers);
+    }
+
+    /**
+     * Call HTTP POST method and extract only the values of the given JSON pointers from the JSON response, without deserializing the whole
+     * response. See {@link JsonStreamExtractor}.
+     *
+     * @param <REQUEST>
+     *            request DTO class
+     * @param requestDto
+     *            request DTO object
+     * @param jsonPointers
+     *            JSON pointers of the requested values, like {@code /items/0/id}
+     * @param pathParams
+     *            The path parameters. See {@link RequestSpecification#post(String, Object...)} pathParams.
+     * @return values by the given JSON pointers in the requested order, {@link com.fasterxml.jackson.databind.node.MissingNode} if the response
+     *         does not contain the pointer
+     */
+    public <REQUEST> Map<String, JsonNode> postJsonValues(REQUEST requestDto, List<String> jsonPointers, Object... pathParams) {
+        RequestSpecification rSpec = createJsonRequestSpecification().body(toJsonBody(requestDto));
+        Response response = rSpec.post(path(), pathParams);
+        return toJsonValues(response, jsonPointers);
+    }
+
+    /**
+     * Call and get JSON objects from HTTP GET method in parallel, one call for each path parameter array. The concurrency limit is
+     * {@link ParallelCallExecutor#getDefaultMaxConcurrency()}.
+     *
+     * @param responseClass
+     *            response class
+     * @param pathParamsList
+     *            path parameters of the calls. See {@link RequestSpecification#get(String, Object...)} pathParams.
+     * @return collected results of the calls, see {@link BatchResult#assertAllSuccessful()}
+     */
+    public BatchResult<RESPONSE> getJsonAll(Class<RESPONSE> responseClass, List<Object[]> pathParamsList) {
+        return getJsonAll(responseClass, pathParamsList, ParallelCallExecutor.getDefaultMaxConcurrency());
+    }
+
+    /**
+     * Call and get JSON objects from HTTP GET method in parallel, one call for each path parameter array.
+     *
+     * @param responseClass
+     *            response class
+     * @param pathParamsList
+     *            path parameters of the calls. See {@link RequestSpecification#get(String, Object...)} pathParams.
+     * @param maxConcurrency
+     *            maximum number of calls executed at the same time
+     * @return collected results of the calls, see {@link BatchResult#assertAllSuccessful()}
+     */
+    public BatchResult<RESPONSE> getJsonAll(Class<RESPONSE> responseClass, List<Object[]> pathParamsList, int maxConcurrency) {
+        return ParallelCallExecutor.execute(pathParamsList, maxConcurrency, pathParams -> getJson(responseClass, pathParams));
+    }
+
     /**
      * Call and get JSON object from HTTP POST method
      *
@@ -127,7 +248,7 @@ public abstract class ResponseProcessor<RESPONSE> {
      * @return response object cast to responseClass
      */
     public <REQUEST> RESPONSE postJson(REQUEST requestDto, Class<RESPONSE> responseClass, Object... pathParams) {
-        RequestSpecification rSpec = createJsonRequestSpecification().body(requestDto);
+        RequestSpecification rSpec = createJsonRequestSpecification().body(toJsonBody(requestDto));
         Response response = rSpec.post(path(), pathParams);
         return toJsonResponse(response, responseClass);
     }
@@ -146,7 +267,7 @@ public abstract class ResponseProcessor<RESPONSE> {
      * @return response object cast to responseClass
      */
     public <REQUEST> RESPONSE putJson(REQUEST requestDto, Class<RESPONSE> responseClass, Object... pathParams) {
-        RequestSpecification rSpec = createJsonRequestSpecification().body(requestDto);
+        RequestSpecification rSpec = createJsonRequestSpecification().body(toJsonBody(requestDto));
         Response response = rSpec.put(path(), pathParams);
         return toJsonResponse(response, responseClass);
     }
@@ -184,6 +305,35 @@ public abstract class ResponseProcessor<RESPONSE> {
         return toXmlResponse(response, responseClass);
     }
 
+    /**
+     * Call and get XML objects from HTTP GET method in parallel, one call for each path parameter array. The concurrency limit is
+     * {@link ParallelCallExecutor#getDefaultMaxConcurrency()}.
+     *
+     * @param responseClass
+     *            response class
+     * @param pathParamsList
+     *            path parameters of the calls. See {@link RequestSpecification#get(String, Object...)} pathParams.
+     * @return collected results of the calls, see {@link BatchResult#assertAllSuccessful()}
+     */
+    public BatchResult<RESPONSE> getXmlAll(Class<RESPONSE> responseClass, List<Object[]> pathParamsList) {
+        return getXmlAll(responseClass, pathParamsList, ParallelCallExecutor.getDefaultMaxConcurrency());
+    }
+
+    /**
+     * Call and get XML objects from HTTP GET method in parallel, one call for each path parameter array.
+     *
+     * @param responseClass
+     *            response class
+     * @param pathParamsList
+     *            path parameters of the calls. See {@link RequestSpecification#get(String, Object...)} pathParams.
+     * @param maxConcurrency
+     *            maximum number of calls executed at the same time
+     * @return collected results of the calls, see {@link BatchResult#assertAllSuccessful()}
+     */
+    public BatchResult<RESPONSE> getXmlAll(Class<RESPONSE> responseClass, List<Object[]> pathParamsList, int maxConcurrency) {
+        return ParallelCallExecutor.execute(pathParamsList, maxConcurrency, pathParams -> getXml(responseClass, pathParams));
+    }
+
     /**
      * Call and get XML object from HTTP POST method
      *
@@ -263,13 +413,17 @@ public abstract class ResponseProcessor<RESPONSE> {
      * @return full set RequestSpecification
      */
     protected RequestSpecification createRequestSpecification(RequestSpecification initRequestSpecification) {
-        return RestAssured
+        RequestSpecification requestSpecification = RestAssured
                 // given
                 .given()//
                 .spec(initRequestSpecification)//
-                .baseUri(baseUri())
-                .log()
-                .all();
+                .baseUri(baseUri());
+        // record/replay and call metrics, if enabled in config; replayed calls do not reach the metrics filter
+        ReplayFilter.fromConfig().ifPresent(requestSpecification::filter);
+        if (CallMetricsRegistry.isEnabled()) {
+            requestSpecification.filter(new MetricsFilter(baseUri() + path()));
+        }
+        return logPolicy.apply(requestSpecification);
     }
 
     /**
@@ -285,6 +439,84 @@ public abstract class ResponseProcessor<RESPONSE> {
         return toResponse(response, responseClass, jsonResponseSpecification);
     }
 
+    /**
+     * Validate JSON RestAssured response and extract the values of the JSON pointers from the response body with streaming parser
+     *
+     * @param response
+     *            RestAssured response
+     * @param jsonPointers
+     *            JSON pointers of the requested values
+     * @return values by the given JSON pointers in the requested order
+     */
+    protected Map<String, JsonNode> toJsonValues(Response response, List<String> jsonPointers) {
+        Response validated = validateResponse(response, jsonResponseSpecification);
+        try (InputStream body = validated.getBody().asInputStream()) {
+            return JsonStreamExtractor.extract(jsonObjectReader(JsonNode.class), body, jsonPointers);
+        } catch (IOException e) {
+            throw new TestException("Could not extract values from JSON response: " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * ObjectReader of the ObjectMapper configured on the JSON request specification, the cached one of
+     * {@link Jackson2ObjectMapperFactoryImpl#getObjectReader(Type)} if that factory is used
+     *
+     * @param type
+     *            type to read
+     * @return ObjectReader for the type
+     */
+    protected ObjectReader jsonObjectReader(Type type) {
+        Jackson2ObjectMapperFactory factory = jsonObjectMapperFactory();
+        if (factory instanceof Jackson2ObjectMapperFactoryImpl) {
+            return ((Jackson2ObjectMapperFactoryImpl) factory).getObjectReader(type);
+        }
+        ObjectMapper objectMapper = factory.create(type, StandardCharsets.UTF_8.name());
+        return objectMapper.readerFor(objectMapper.constructType(type));
+    }
+
+    /**
+     * ObjectWriter of the ObjectMapper configured on the JSON request specification, the cached one of
+     * {@link Jackson2ObjectMapperFactoryImpl#getObjectWriter(Type)} if that factory is used
+     *
+     * @param type
+     *            type to write
+     * @return ObjectWriter for the type
+     */
+    protected ObjectWriter jsonObjectWriter(Type type) {
+        Jackson2ObjectMapperFactory factory = jsonObjectMapperFactory();
+        if (factory instanceof Jackson2ObjectMapperFactoryImpl) {
+            return ((Jackson2ObjectMapperFactoryImpl) factory).getObjectWriter(type);
+        }
+        ObjectMapper objectMapper = factory.create(type, StandardCharsets.UTF_8.name());
+        return objectMapper.writerFor(objectMapper.constructType(type));
+    }
+
+    /**
+     * Converts the request DTO to the JSON request body with {@link #jsonObjectWriter(Type)}. Texts, numbers, byte arrays, files, streams and
+     * the other values RestAssured sends as they are, are returned unchanged.
+     *
+     * @param requestDto
+     *            request DTO object
+     * @return JSON request body
+     */
+    protected Object toJsonBody(Object requestDto) {
+        if (requestDto == null || requestDto instanceof CharSequence || requestDto instanceof Number || requestDto instanceof Boolean
+                || requestDto instanceof Character || requestDto instanceof Enum || requestDto instanceof Locale || requestDto instanceof Class
+                || requestDto instanceof UUID || requestDto instanceof byte[] || requestDto instanceof File || requestDto instanceof InputStream) {
+            return requestDto;
+        }
+        try {
+            return jsonObjectWriter(requestDto.getClass()).writeValueAsString(requestDto);
+        } catch (JsonProcessingException e) {
+            throw new TestException("Could not write JSON request body: " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    private Jackson2ObjectMapperFactory jsonObjectMapperFactory() {
+        RestAssuredConfig config = SpecificationQuerier.query(jsonRequestSpecification).getConfig();
+        return (config == null ? RestAssured.config() : config).getObjectMapperConfig().jackson2ObjectMapperFactory();
+    }
+
     /**
      * Process XML RestAssured response
      *
@@ -299,7 +531,8 @@ public abstract class ResponseProcessor<RESPONSE> {
     }
 
     /**
-     * Process RestAssured response
+     * Process RestAssured response. JSON responses are mapped with {@link #jsonObjectReader(Type)}, other responses with the RestAssured
+     * mapping.
      *
      * @param response
      *            RestAssured response
@@ -310,6 +543,47 @@ public abstract class ResponseProcessor<RESPONSE> {
      * @return response object cast to responseClass
      */
     protected RESPONSE toResponse(Response response, Class<RESPONSE> responseClass, ResponseSpecification iniResponseSpecification) {
-        return response.then().log().all().spec(iniResponseSpecification).extract().response().getBody().as(responseClass);
+        Response validated = validateResponse(response, iniResponseSpecification);
+        if (responseClass != String.class && ContentType.JSON.matches(validated.getContentType())) {
+            // JSON is read with the cached ObjectReader, String is the raw body like in the RestAssured mapping
+            try (InputStream body = validated.getBody().asInputStream()) {
+                return jsonObjectReader(responseClass).readValue(body);
+            } catch (IOException e) {
+                throw new TestException("Could not map JSON response to [" + responseClass.getName() + "]: " + e.getLocalizedMessage(), e);
+            }
+        }
+        return validated.getBody().as(responseClass);
+    }
+
+    /**
+     * Validate RestAssured response
+     *
+     * @param response
+     *            RestAssured response
+     * @param iniResponseSpecification
+     *            response is validated against this object
+     * @return the validated response
+     */
+    protected Response validateResponse(Response response, ResponseSpecification iniResponseSpecification) {
+        return logPolicy.apply(response.then()).spec(iniResponseSpecification).extract().response();
+    }
+
+    /**
+     * Getter for the field {@code logPolicy}.
+     *
+     * @return logging policy of the requests and responses
+     */
+    public LogPolicy getLogPolicy() {
+        return logPolicy;
+    }
+
+    /**
+     * Sets the logging policy of the requests and responses, overriding the configured one
+     *
+     * @param logPolicy
+     *            new logging policy
+     */
+    public void setLogPolicy(LogPolicy logPolicy) {
+        this.logPolicy = Objects.requireNonNull(logPolicy, "logPolicy");
     }
 }
@@ -0,0 +1,57 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link TruncatingPrintStream} test class
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+@Tag("unit")
+@DisplayName("Testing TruncatingPrintStream")
+class TruncatingPrintStreamTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream stream = new TruncatingPrintStream(new PrintStream(output, true, StandardCharsets.UTF_8), 5);
+
+    @Test
+    @DisplayName("Short string is printed as is")
+    void shortString() {
+        stream.print("abcde");
+        Assertions.assertEquals("abcde", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Long string is truncated")
+    void longString() {
+        stream.print("abcdefgh");
+        Assertions.assertEquals("abcde... [3 characters truncated]", output.toString(StandardCharsets.UTF_8));
+    }
+}
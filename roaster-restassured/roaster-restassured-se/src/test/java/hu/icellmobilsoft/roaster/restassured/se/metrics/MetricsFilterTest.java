@@ -0,0 +1,128 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.metrics;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hu.icellmobilsoft.roaster.jaxrs.se.metrics.CallMetricsRegistry;
+import hu.icellmobilsoft.roaster.jaxrs.se.metrics.EndpointMetrics;
+import hu.icellmobilsoft.roaster.jaxrs.se.metrics.LatencyHistogram;
+import hu.icellmobilsoft.roaster.jaxrs.se.replay.ReplayMode;
+import hu.icellmobilsoft.roaster.jaxrs.se.replay.ReplayStore;
+import hu.icellmobilsoft.roaster.restassured.se.replay.ReplayFilter;
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+
+/**
+ * {@link MetricsFilter} test class
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+@Tag("unit")
+@DisplayName("Testing MetricsFilter")
+class MetricsFilterTest {
+
+    // nothing listens here, every call must be served by the filters
+    private static final String BASE_URI = "http://localhost:1";
+
+    @AfterEach
+    void afterEach() {
+        CallMetricsRegistry.reset();
+    }
+
+    @Test
+    @DisplayName("Calls are recorded by method and URI template")
+    void recordCalls() {
+        Filter service = (requestSpec, responseSpec, ctx) -> new ResponseBuilder()
+                .setStatusCode(requestSpec.getURI().endsWith("/2") ? 404 : 200)
+                .setStatusLine("HTTP/1.1")
+                .setBody("response")
+                .build();
+        for (String id : List.of("1", "1", "2")) {
+            RestAssured.given()
+                    .baseUri(BASE_URI)
+                    .filter(new MetricsFilter(BASE_URI + "/metrics/{id}"))
+                    .filter(service)
+                    .body("request")
+                    .post("/metrics/{id}", id);
+        }
+
+        List<EndpointMetrics> endpointMetrics = CallMetricsRegistry.getEndpointMetrics();
+        Assertions.assertEquals(1, endpointMetrics.size());
+        EndpointMetrics metrics = endpointMetrics.get(0);
+        Assertions.assertEquals("POST " + BASE_URI + "/metrics/{id}", metrics.getEndpoint());
+        Assertions.assertEquals(3, metrics.getCount());
+        Assertions.assertEquals(Map.of(200, 2L, 404, 1L), metrics.getStatusCounts());
+        Assertions.assertEquals(3 * "request".length(), metrics.getRequestBytes());
+        Assertions.assertEquals(3 * "response".length(), metrics.getResponseBytes());
+        Assertions.assertTrue(CallMetricsRegistry.report().contains("POST " + BASE_URI + "/metrics/{id}: calls=3"));
+    }
+
+    @Test
+    @DisplayName("Replayed calls are not recorded")
+    void replayedCallsNotRecorded(@TempDir Path directory) {
+        ReplayStore store = new ReplayStore(directory);
+        Filter service = (requestSpec, responseSpec, ctx) -> new ResponseBuilder().setStatusCode(200)
+                .setStatusLine("HTTP/1.1")
+                .setBody("response")
+                .build();
+        RestAssured.given().baseUri(BASE_URI).filter(new ReplayFilter(ReplayMode.RECORD, store)).filter(service).get("/metrics/replayed");
+
+        RestAssured.given()
+                .baseUri(BASE_URI)
+                .filter(new ReplayFilter(ReplayMode.REPLAY, store))
+                .filter(new MetricsFilter(BASE_URI + "/metrics/replayed"))
+                .get("/metrics/replayed");
+
+        Assertions.assertTrue(CallMetricsRegistry.getEndpointMetrics().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Histogram percentiles are within the bucket precision")
+    void histogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        Assertions.assertEquals(1000, histogram.getCount());
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(1), histogram.getMin());
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), histogram.getMax());
+        assertWithinPrecision(TimeUnit.MILLISECONDS.toNanos(500), histogram.getValueAtPercentile(50));
+        assertWithinPrecision(TimeUnit.MILLISECONDS.toNanos(990), histogram.getValueAtPercentile(99));
+        Assertions.assertEquals(histogram.getMax(), histogram.getValueAtPercentile(100));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        Assertions.assertTrue(Math.abs(expected - actual) <= expected / 16, () -> "expected: " + expected + ", actual: " + actual);
+    }
+}
@@ -0,0 +1,103 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.producer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * {@link Jackson2ObjectMapperFactoryImpl} test class
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+@Tag("unit")
+@DisplayName("Testing Jackson2ObjectMapperFactoryImpl")
+class Jackson2ObjectMapperFactoryImplTest {
+
+    @Test
+    @DisplayName("Default ObjectMapper is shared between the instances and threads")
+    void sharedDefault() throws Exception {
+        Set<ObjectMapper> mappers = ConcurrentHashMap.newKeySet();
+        List<Callable<ObjectMapper>> tasks = IntStream.range(0, 32)
+                .mapToObj(i -> (Callable<ObjectMapper>) () -> new Jackson2ObjectMapperFactoryImpl().create(Object.class, StandardCharsets.UTF_8.name()))
+                .collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<ObjectMapper> future : executor.invokeAll(tasks)) {
+                mappers.add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, mappers.size());
+    }
+
+    @Test
+    @DisplayName("Own ObjectMapper replaces the default with new reader and writer caches")
+    void ownObjectMapper() {
+        Jackson2ObjectMapperFactoryImpl factory = new Jackson2ObjectMapperFactoryImpl();
+        Assertions.assertSame(factory.getObjectReader(String.class), factory.getObjectReader(String.class));
+        Assertions.assertSame(factory.getObjectWriter(String.class), factory.getObjectWriter(String.class));
+
+        ObjectMapper own = Jackson2ObjectMapperFactoryImpl.createDefaultObjectMapper();
+        Assertions.assertNotSame(new Jackson2ObjectMapperFactoryImpl().getObjectMapper(), own);
+        factory.withObjectMapper(own);
+
+        Assertions.assertSame(own, factory.getObjectMapper());
+        Assertions.assertNotSame(new Jackson2ObjectMapperFactoryImpl().getObjectReader(String.class), factory.getObjectReader(String.class));
+        Assertions.assertSame(factory.getObjectReader(String.class), factory.getObjectReader(String.class));
+    }
+
+    @Test
+    @DisplayName("Reconfiguring the ObjectMapper of an instance does not change the shared default")
+    void reconfigureObjectMapper() throws Exception {
+        Jackson2ObjectMapperFactoryImpl factory = new Jackson2ObjectMapperFactoryImpl();
+        ObjectWriter defaultWriter = factory.getObjectWriter(LocalDate.class);
+
+        factory.getObjectMapper().configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+
+        Jackson2ObjectMapperFactoryImpl other = new Jackson2ObjectMapperFactoryImpl();
+        Assertions.assertSame(other.create(Object.class, StandardCharsets.UTF_8.name()), new Jackson2ObjectMapperFactoryImpl().create(Object.class,
+                StandardCharsets.UTF_8.name()));
+        Assertions.assertNotSame(other.create(Object.class, StandardCharsets.UTF_8.name()), factory.create(Object.class, StandardCharsets.UTF_8.name()));
+        Assertions.assertNotSame(defaultWriter, factory.getObjectWriter(LocalDate.class));
+        Assertions.assertEquals("\"2020-01-02\"", other.getObjectWriter(LocalDate.class).writeValueAsString(LocalDate.of(2020, 1, 2)));
+        Assertions.assertEquals("[2020,1,2]", factory.getObjectWriter(LocalDate.class).writeValueAsString(LocalDate.of(2020, 1, 2)));
+    }
+}
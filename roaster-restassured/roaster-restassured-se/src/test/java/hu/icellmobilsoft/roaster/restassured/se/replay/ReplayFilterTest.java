@@ -0,0 +1,91 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.replay;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hu.icellmobilsoft.roaster.api.TestException;
+import hu.icellmobilsoft.roaster.jaxrs.se.replay.ReplayMode;
+import hu.icellmobilsoft.roaster.jaxrs.se.replay.ReplayStore;
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+
+/**
+ * {@link ReplayFilter} test class
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+@Tag("unit")
+@DisplayName("Testing ReplayFilter")
+class ReplayFilterTest {
+
+    // nothing listens here, every call must be served by the filters
+    private static final String BASE_URI = "http://localhost:1";
+
+    private static final String BODY = "{\"funcCode\":\"OK\"}";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Recorded response is replayed without calling the service")
+    void recordAndReplay() {
+        ReplayStore store = new ReplayStore(directory);
+        Filter service = (requestSpec, responseSpec, ctx) -> new ResponseBuilder().setStatusCode(201)
+                .setStatusLine("HTTP/1.1 201")
+                .setHeader("X-Test", "recorded")
+                .setContentType("application/json")
+                .setBody(BODY)
+                .build();
+
+        Response recorded = RestAssured.given()
+                .baseUri(BASE_URI)
+                .filter(new ReplayFilter(ReplayMode.RECORD, store))
+                .filter(service)
+                .body("request")
+                .post("/replay/{id}", "1");
+        Assertions.assertEquals(201, recorded.getStatusCode());
+
+        Response replayed = RestAssured.given()
+                .baseUri(BASE_URI)
+                .filter(new ReplayFilter(ReplayMode.REPLAY, store))
+                .body("request")
+                .post("/replay/{id}", "1");
+        Assertions.assertEquals(201, replayed.getStatusCode());
+        Assertions.assertEquals("recorded", replayed.getHeader("X-Test"));
+        Assertions.assertEquals("OK", replayed.jsonPath().getString("funcCode"));
+    }
+
+    @Test
+    @DisplayName("Not recorded call fails in replay mode")
+    void replayMissing() {
+        ReplayFilter filter = new ReplayFilter(ReplayMode.REPLAY, new ReplayStore(directory));
+        Assertions.assertThrows(TestException.class, () -> RestAssured.given().baseUri(BASE_URI).filter(filter).get("/replay/missing"));
+    }
+}
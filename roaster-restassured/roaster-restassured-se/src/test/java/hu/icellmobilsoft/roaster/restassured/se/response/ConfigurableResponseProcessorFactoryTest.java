@@ -0,0 +1,90 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.response;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ConfigurableResponseProcessorFactory} test class
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+@Tag("unit")
+@DisplayName("Testing ConfigurableResponseProcessorFactory")
+class ConfigurableResponseProcessorFactoryTest {
+
+    private static final String CONFIG_KEY = "testsuite.rest.factoryTest";
+
+    @BeforeEach
+    void beforeEach() {
+        System.setProperty(CONFIG_KEY + ".baseUriKey", "example-project.example-service.url");
+        System.setProperty(CONFIG_KEY + ".path", "/rest/factoryTest/{id}");
+        System.setProperty(CONFIG_KEY + ".headers", "X-LANGUAGE: hu");
+    }
+
+    @AfterEach
+    void afterEach() {
+        ConfigurableResponseProcessorFactory.clearCache();
+    }
+
+    @Test
+    @DisplayName("Created processors are independent copies")
+    void independentCopies() {
+        ConfigurableResponseProcessor<String> processor = ConfigurableResponseProcessorFactory.create(CONFIG_KEY, 201);
+        processor.setQueryParams(Map.of("foo", "bar"));
+        processor.setExpectedStatusCode(400);
+        ConfigurableResponseProcessor<String> other = ConfigurableResponseProcessorFactory.create(CONFIG_KEY, 201);
+
+        Assertions.assertNotSame(processor, other);
+        Assertions.assertEquals("example-project.example-service.url", other.baseUriKey());
+        Assertions.assertEquals("/rest/factoryTest/{id}", other.path());
+        Assertions.assertEquals(201, other.getExpectedStatusCode());
+        Assertions.assertNull(other.getQueryParams());
+    }
+
+    @Test
+    @DisplayName("JSON request DTOs are written with the cached writer, texts are sent as they are")
+    void jsonBody() {
+        ConfigurableResponseProcessor<String> processor = ConfigurableResponseProcessorFactory.create(CONFIG_KEY);
+
+        Assertions.assertEquals("{\"id\":1}", processor.toJsonBody(Map.of("id", 1)));
+        Assertions.assertEquals("{\"raw\":true}", processor.toJsonBody("{\"raw\":true}"));
+        Assertions.assertNull(processor.toJsonBody(null));
+    }
+
+    @Test
+    @DisplayName("Config is read again only after clearCache")
+    void clearCache() {
+        ConfigurableResponseProcessorFactory.create(CONFIG_KEY);
+        System.setProperty(CONFIG_KEY + ".path", "/rest/factoryTest/changed/{id}");
+
+        Assertions.assertEquals("/rest/factoryTest/{id}", ConfigurableResponseProcessorFactory.create(CONFIG_KEY).path());
+        ConfigurableResponseProcessorFactory.clearCache();
+        Assertions.assertEquals("/rest/factoryTest/changed/{id}", ConfigurableResponseProcessorFactory.create(CONFIG_KEY).path());
+    }
+}
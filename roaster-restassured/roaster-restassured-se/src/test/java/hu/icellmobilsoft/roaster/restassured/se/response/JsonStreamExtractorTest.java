@@ -0,0 +1,109 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import hu.icellmobilsoft.roaster.restassured.se.producer.Jackson2ObjectMapperFactoryImpl;
+
+/**
+ * {@link JsonStreamExtractor} test class
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+@Tag("unit")
+@DisplayName("Testing JsonStreamExtractor")
+class JsonStreamExtractorTest {
+
+    private static final String JSON = "{\"context\":{\"requestId\":\"R1\",\"timestamp\":\"2020-01-01T00:00:00Z\"},"
+            + "\"items\":[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\",\"tags\":[\"x\",\"y\"]}],\"empty\":null,\"funcCode\":\"OK\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Scalar, nested and array values are extracted")
+    void extractValues() throws IOException {
+        Map<String, JsonNode> values = extract(List.of("/funcCode", "/context/requestId", "/items/1/tags/1", "/empty"));
+
+        Assertions.assertEquals(List.of("/funcCode", "/context/requestId", "/items/1/tags/1", "/empty"), List.copyOf(values.keySet()));
+        Assertions.assertEquals("OK", values.get("/funcCode").asText());
+        Assertions.assertEquals("R1", values.get("/context/requestId").asText());
+        Assertions.assertEquals("y", values.get("/items/1/tags/1").asText());
+        Assertions.assertTrue(values.get("/empty").isNull());
+    }
+
+    @Test
+    @DisplayName("Subtrees and values below an extracted subtree are extracted")
+    void extractSubtree() throws IOException {
+        Map<String, JsonNode> values = extract(List.of("/items/0", "/items/0/name", ""));
+
+        Assertions.assertEquals(1, values.get("/items/0").get("id").asInt());
+        Assertions.assertEquals("a", values.get("/items/0/name").asText());
+        Assertions.assertEquals("OK", values.get("").get("funcCode").asText());
+    }
+
+    @Test
+    @DisplayName("Not existing pointers are missing nodes")
+    void extractMissing() throws IOException {
+        Map<String, JsonNode> values = extract(List.of("/items/5/id", "/context/foo"));
+
+        Assertions.assertTrue(values.get("/items/5/id").isMissingNode());
+        Assertions.assertTrue(values.get("/context/foo").isMissingNode());
+    }
+
+    @Test
+    @DisplayName("Values are extracted with the cached reader of the factory")
+    void extractWithCachedReader() throws IOException {
+        ObjectReader objectReader = new Jackson2ObjectMapperFactoryImpl().getObjectReader(JsonNode.class);
+        try (InputStream in = new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8))) {
+            Map<String, JsonNode> values = JsonStreamExtractor.extract(objectReader, in, List.of("/items/0/name", "/funcCode"));
+
+            Assertions.assertEquals("a", values.get("/items/0/name").asText());
+            Assertions.assertEquals("OK", values.get("/funcCode").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid pointer is rejected")
+    void invalidPointer() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> extract(List.of("items")));
+    }
+
+    private Map<String, JsonNode> extract(List<String> pointers) throws IOException {
+        try (InputStream in = new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8))) {
+            return JsonStreamExtractor.extract(objectMapper, in, pointers);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*-
+ * #%L
+ * Roaster
+ * %%
+ * Copyright (C) 2020 - 2026 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.restassured.se.response;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.roaster.api.TestException;
+
+/**
+ * {@link ParallelCallExecutor} test class
+ *
+ * @author agent
+ * @since 2.8.0
+ */
+@Tag("unit")
+@DisplayName("Testing ParallelCallExecutor")
+class ParallelCallExecutorTest {
+
+    private static final List<Object[]> PATH_PARAMS = IntStream.range(0, 50).mapToObj(i -> new Object[] { i }).collect(Collectors.toList());
+
+    @Test
+    @DisplayName("Results are in call order")
+    void resultOrder() {
+        BatchResult<Integer> result = ParallelCallExecutor.execute(PATH_PARAMS, 8, pathParams -> (Integer) pathParams[0] * 2);
+
+        Assertions.assertTrue(result.isAllSuccessful());
+        Assertions.assertEquals(IntStream.range(0, 50).map(i -> i * 2).boxed().collect(Collectors.toList()), result.assertAllSuccessful());
+    }
+
+    @Test
+    @DisplayName("Concurrency limit is not exceeded")
+    void concurrencyLimit() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ParallelCallExecutor.execute(PATH_PARAMS, 4, pathParams -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return running.decrementAndGet();
+        });
+
+        Assertions.assertTrue(maxRunning.get() <= 4, "max running calls: " + maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("Failures are collected")
+    void failures() {
+        BatchResult<Integer> result = ParallelCallExecutor.execute(PATH_PARAMS, 8, pathParams -> {
+            int i = (Integer) pathParams[0];
+            if (i % 10 == 0) {
+                throw new AssertionError("failed: " + i);
+            }
+            return i;
+        });
+
+        Assertions.assertFalse(result.isAllSuccessful());
+        Assertions.assertEquals(5, result.getFailures().size());
+        Assertions.assertEquals(45, result.getResponses().size());
+        TestException exception = Assertions.assertThrows(TestException.class, result::assertAllSuccessful);
+        Assertions.assertEquals(5, exception.getSuppressed().length);
+    }
+}
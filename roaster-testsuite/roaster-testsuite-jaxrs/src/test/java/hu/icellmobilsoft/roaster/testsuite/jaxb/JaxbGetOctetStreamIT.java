@@ -19,6 +19,10 @@
  */
 package hu.icellmobilsoft.roaster.testsuite.jaxb;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 import jakarta.inject.Inject;
 
 import org.junit.jupiter.api.AfterAll;
@@ -98,4 +102,19 @@ class JaxbGetOctetStreamIT extends BaseWeldUnitType {
         String response = processor500.getOctetStream(String.class, "entityId500");
         Assertions.assertEquals(BODY, response);
     }
+
+    @Test
+    @DisplayName("HTTP 200 streamed")
+    void http200Streamed() {
+        long size = processor.getOctetStream(in -> in.transferTo(OutputStream.nullOutputStream()), "entityId");
+        Assertions.assertEquals(BODY.getBytes(StandardCharsets.UTF_8).length, size);
+    }
+
+    @Test
+    @DisplayName("HTTP 200 as input stream")
+    void http200AsInputStream() throws Exception {
+        try (InputStream inputStream = processor.getOctetStreamAsInputStream("entityId")) {
+            Assertions.assertEquals(BODY, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
 }
@@ -19,6 +19,11 @@
  */
 package hu.icellmobilsoft.roaster.testsuite.jaxb;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import jakarta.enterprise.inject.spi.CDI;
 import jakarta.inject.Inject;
 
@@ -49,6 +54,7 @@ import hu.icellmobilsoft.coffee.tool.utils.marshalling.MarshallingUtil;
 import hu.icellmobilsoft.roaster.api.TestSuiteGroup;
 import hu.icellmobilsoft.roaster.jaxrs.response.producer.RestProcessor;
 import hu.icellmobilsoft.roaster.jaxrs.se.response.ConfigurableResponseProcessor;
+import hu.icellmobilsoft.roaster.jaxrs.se.response.ConfigurableResponseProcessorFactory;
 import hu.icellmobilsoft.roaster.testsuite.jaxb.dto.DtoHelper;
 import hu.icellmobilsoft.roaster.weldunit.BaseWeldUnitType;
 
@@ -158,4 +164,17 @@ class JaxbPostMultipartIT extends BaseWeldUnitType {
         String response = cdiProcessor.postMultipartJson(multipartbody, String.class, "jsonEntityId");
         Assertions.assertEquals(JsonUtil.toJsonOpt(RESPONSE_DTO).orElse(null), response);
     }
+
+    @Test
+    @DisplayName("HTTP 200 Json response async")
+    void http200jsonAsync() {
+        ConfigurableResponseProcessor<String> seProcessor = ConfigurableResponseProcessorFactory.create("testsuite.rest.test");
+        List<CompletableFuture<String>> responses = IntStream.range(0, 20).mapToObj(i -> {
+            MultipartFormDataOutput multipartbody = new MultipartFormDataOutput();
+            multipartbody.addFormData("part1", "part1Body" + i, jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+            return seProcessor.postMultipartJsonAsync(multipartbody, String.class, "jsonEntityId").toCompletableFuture();
+        }).collect(Collectors.toList());
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        responses.forEach(response -> Assertions.assertEquals(JsonUtil.toJsonOpt(RESPONSE_DTO).orElse(null), response.join()));
+    }
 }
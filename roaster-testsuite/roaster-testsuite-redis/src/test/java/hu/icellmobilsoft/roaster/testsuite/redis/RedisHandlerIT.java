@@ -20,10 +20,31 @@
 package hu.icellmobilsoft.roaster.testsuite.redis;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import jakarta.inject.Inject;
 
@@ -33,18 +54,32 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.utility.DockerImageName;
 
+import hu.icellmobilsoft.coffee.dto.exception.InvalidParameterException;
+import hu.icellmobilsoft.coffee.module.redisstream.common.RedisStreamUtil;
 import hu.icellmobilsoft.coffee.se.api.exception.BaseException;
 import hu.icellmobilsoft.coffee.tool.utils.json.JsonUtil;
 import hu.icellmobilsoft.roaster.api.TestSuiteGroup;
 import hu.icellmobilsoft.roaster.redis.JedisConnectionCache;
+import hu.icellmobilsoft.roaster.redis.JedisConnectionCacheExtension;
+import hu.icellmobilsoft.roaster.redis.RedisBulkResult;
 import hu.icellmobilsoft.roaster.redis.RedisHandler;
+import hu.icellmobilsoft.roaster.redis.RedisNearCache;
+import hu.icellmobilsoft.roaster.redis.RedisPoolMetrics;
+import hu.icellmobilsoft.roaster.redis.RedisSnapshot;
+import hu.icellmobilsoft.roaster.redis.RedisStreamConsumer;
+import hu.icellmobilsoft.roaster.redis.RedisStreamPublishException;
+import hu.icellmobilsoft.roaster.redis.RedisStreamPublishResult;
+import hu.icellmobilsoft.roaster.redis.RedisStreamPublisher;
 import hu.icellmobilsoft.roaster.weldunit.BaseWeldUnitType;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Protocol;
 import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.resps.StreamEntry;
+import redis.clients.jedis.util.SafeEncoder;
 
 /**
  * Redis docker instance tests to validate the Redis calls
@@ -55,6 +90,7 @@ import redis.clients.jedis.UnifiedJedis;
 @Tag(TestSuiteGroup.INTEGRATION)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @DisplayName("Testing RedisHandler")
+@ExtendWith(JedisConnectionCacheExtension.class)
 class RedisHandlerIT extends BaseWeldUnitType {
 
     public static final String REDIS_KONFIG_KEY = "test";
@@ -76,6 +112,13 @@ class RedisHandlerIT extends BaseWeldUnitType {
         Jedis jedis = new Jedis(REDIS_SERVER.getHost(), REDIS_SERVER.getMappedPort(6379));
         System.setProperty("roaster.redis.test.host", REDIS_SERVER.getHost());
         System.setProperty("roaster.redis.test.port", REDIS_SERVER.getMappedPort(6379).toString());
+        System.setProperty("roaster.redis.testBinary.host", REDIS_SERVER.getHost());
+        System.setProperty("roaster.redis.testBinary.port", REDIS_SERVER.getMappedPort(6379).toString());
+        System.setProperty("roaster.redis.testBinary.codec", "smile");
+        System.setProperty("roaster.redis.testBinary.compression", "deflate");
+        System.setProperty("roaster.redis.testNear.host", REDIS_SERVER.getHost());
+        System.setProperty("roaster.redis.testNear.port", REDIS_SERVER.getMappedPort(6379).toString());
+        System.setProperty("roaster.redis.testNear.nearCache.enabled", "true");
         redisCache = new RedisContainer(jedis);
     }
 
@@ -160,4 +203,252 @@ class RedisHandlerIT extends BaseWeldUnitType {
         String jedisData = redisCache.getJedis().get(key);
         assertNull(jedisData);
     }
+
+    @Test
+    @DisplayName("Testing redisHandler.setRedisDataBulk and getRedisDataBulk")
+    void redisDataBulk() throws BaseException {
+        Map<String, String> data = IntStream.range(0, 2500)
+                .boxed()
+                .collect(Collectors.toMap(i -> TEST_KEY + "bulk" + i, i -> TEST_VALUE + i));
+        RedisBulkResult<String> setResult = redisHandler.setRedisDataExpBulk(REDIS_KONFIG_KEY, 60, data);
+        assertTrue(setResult.isAllSuccessful());
+        assertEquals(2500, setResult.getValues().size());
+
+        List<String> keys = new ArrayList<>(data.keySet());
+        keys.add(TEST_KEY + "bulkMissing");
+        RedisBulkResult<String> getResult = redisHandler.getRedisDataBulk(REDIS_KONFIG_KEY, keys, String.class);
+        assertEquals(2500, getResult.getValues().size());
+        assertEquals(List.of(TEST_KEY + "bulkMissing"), getResult.getMissingKeys());
+        assertEquals(JsonUtil.toJson(TEST_VALUE + 42), getResult.getValues().get(TEST_KEY + "bulk42"));
+    }
+
+    @Test
+    @DisplayName("scan and remove keys by pattern")
+    void removeByPattern() throws BaseException {
+        Map<String, String> data = IntStream.range(0, 1500)
+                .boxed()
+                .collect(Collectors.toMap(i -> TEST_KEY + "pattern:" + i, i -> TEST_VALUE + i));
+        redisHandler.setRedisDataExpBulk(REDIS_KONFIG_KEY, 60, data);
+        redisHandler.setRedisDataExp(REDIS_KONFIG_KEY, TEST_KEY + "other", 60, TEST_VALUE);
+
+        try (Stream<String> keys = redisHandler.scanKeys(REDIS_KONFIG_KEY, TEST_KEY + "pattern:*")) {
+            assertEquals(data.keySet(), keys.collect(Collectors.toSet()));
+        }
+        assertThrows(InvalidParameterException.class, () -> redisHandler.removeByPattern(REDIS_KONFIG_KEY, TEST_KEY + "pattern:*", 0));
+        assertEquals(Optional.of(1500L), redisHandler.removeByPattern(REDIS_KONFIG_KEY, TEST_KEY + "pattern:*", 100));
+        assertEquals(0, redisHandler.scanKeys(REDIS_KONFIG_KEY, TEST_KEY + "pattern:*").count());
+        assertTrue(redisHandler.getRedisDataOpt(REDIS_KONFIG_KEY, TEST_KEY + "other", String.class).isPresent());
+    }
+
+    @Test
+    @DisplayName("smile codec with deflate compression")
+    void binaryCodec() throws BaseException {
+        String binaryConfigKey = "testBinary";
+        ArrayList<String> data = IntStream.range(0, 1000).mapToObj(i -> TEST_VALUE + i).collect(Collectors.toCollection(ArrayList::new));
+        redisHandler.setRedisDataExp(binaryConfigKey, TEST_KEY + "binary", 60, data);
+
+        assertEquals(data, redisHandler.getRedisData(binaryConfigKey, TEST_KEY + "binary", ArrayList.class));
+        assertEquals(Optional.of(data), redisHandler.getRedisDataOpt(binaryConfigKey, TEST_KEY + "binary", ArrayList.class));
+        byte[] stored = redisCache.getJedis().get(SafeEncoder.encode(TEST_KEY + "binary"));
+        assertTrue(stored.length < JsonUtil.toJson(data).length());
+    }
+
+    @Test
+    @DisplayName("smile codec maps DTOs by their fields")
+    void smileCodecDto() throws BaseException {
+        String binaryConfigKey = "testBinary";
+        SmileValue data = new SmileValue(TEST_VALUE, LocalDate.of(2020, 1, 2), List.of(1, 2, 3));
+        redisHandler.setRedisDataExp(binaryConfigKey, TEST_KEY + "smile", 60, data);
+
+        SmileValue read = redisHandler.getRedisData(binaryConfigKey, TEST_KEY + "smile", SmileValue.class);
+        assertEquals(data.value, read.value);
+        assertEquals(data.date, read.date);
+        assertEquals(data.numbers, read.numbers);
+    }
+
+    @Test
+    @DisplayName("near-cache reads and invalidation")
+    void nearCache() throws BaseException {
+        String nearConfigKey = "testNear";
+        String key = TEST_KEY + "near";
+        redisCache.getJedis().setex(key, 60, TEST_VALUE);
+        RedisNearCache nearCache = RedisNearCache.get(nearConfigKey).orElseThrow();
+        long hitCount = nearCache.getHitCount();
+
+        assertEquals(TEST_VALUE, redisHandler.getRedisData(nearConfigKey, key, String.class));
+        assertEquals(TEST_VALUE, redisHandler.getRedisData(nearConfigKey, key, String.class));
+        assertEquals(hitCount + 1, nearCache.getHitCount());
+
+        // written by an other client, the near-cache is invalidated by REDIS
+        redisCache.getJedis().setex(key, 60, "changed");
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (!"changed".equals(new String(nearCache.getValue(key), StandardCharsets.UTF_8))) {
+                Thread.sleep(10);
+            }
+        });
+
+        redisHandler.setRedisDataExp(nearConfigKey, key, 60, "local");
+        assertEquals(JsonUtil.toJson("local"), redisHandler.getRedisData(nearConfigKey, key, String.class));
+    }
+
+    @Test
+    @DisplayName("pipelined stream publish")
+    void publishAll() {
+        String group = "publishAllGroup";
+        RedisStreamPublisher publisher = new RedisStreamPublisher(REDIS_KONFIG_KEY, group);
+        List<String> messages = IntStream.range(0, 2500).mapToObj(i -> TEST_VALUE + i).collect(Collectors.toList());
+
+        RedisStreamPublishResult result = publisher.publishAll(messages);
+        assertEquals(2500, result.getMessageCount());
+        assertEquals(2500, result.getEntryIds().stream().distinct().count());
+        assertEquals(2500, redisCache.getJedis().xlen(RedisStreamUtil.streamKey(group)));
+
+        RedisStreamPublishResult trimmedResult = publisher.publishAll(messages.stream(), 500, 100);
+        assertEquals(2500, trimmedResult.getMessageCount());
+        assertTrue(redisCache.getJedis().xlen(RedisStreamUtil.streamKey(group)) < 2500);
+    }
+
+    @Test
+    @DisplayName("pipelined stream publish keeps the entry ids published before a failure")
+    void publishAllFailure() {
+        String group = "publishAllFailureGroup";
+        String streamKey = RedisStreamUtil.streamKey(group);
+        RedisStreamPublisher publisher = new RedisStreamPublisher(REDIS_KONFIG_KEY, group);
+        Stream<String> messages = IntStream.range(0, 50).mapToObj(i -> {
+            if (i == 20) {
+                // the XADD commands of the third pipeline fail with WRONGTYPE
+                redisCache.getJedis().del(streamKey);
+                redisCache.getJedis().set(streamKey, TEST_VALUE);
+            }
+            return TEST_VALUE + i;
+        });
+
+        RedisStreamPublishException exception = assertThrows(RedisStreamPublishException.class, () -> publisher.publishAll(messages, 10));
+        assertEquals(20, exception.getResult().getMessageCount());
+        assertEquals(20, exception.getResult().getEntryIds().stream().distinct().count());
+        redisCache.getJedis().del(streamKey);
+    }
+
+    @Test
+    @DisplayName("stream consumer reads the published messages")
+    void streamConsumer() {
+        String group = "consumerGroup";
+        RedisStreamPublisher publisher = new RedisStreamPublisher(REDIS_KONFIG_KEY, group);
+        try (RedisStreamConsumer consumer = new RedisStreamConsumer(REDIS_KONFIG_KEY, group)) {
+            publisher.publishAll(IntStream.range(0, 10).mapToObj(i -> TEST_VALUE + i).collect(Collectors.toList()));
+
+            List<StreamEntry> entries = consumer.awaitMessages(5, entry -> RedisStreamConsumer.getMessage(entry).compareTo(TEST_VALUE + 5) < 0);
+            assertEquals(5, entries.size());
+
+            publisher.publish("last");
+            assertEquals(List.of("last"), consumer.stream().map(RedisStreamConsumer::getMessage).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent stream consumers read every message in their own consumer groups")
+    void concurrentStreamConsumers() throws Exception {
+        String group = "concurrentConsumerGroup";
+        RedisStreamPublisher publisher = new RedisStreamPublisher(REDIS_KONFIG_KEY, group);
+        List<String> messages = IntStream.range(0, 200).mapToObj(i -> TEST_VALUE + i).collect(Collectors.toList());
+        String streamKey = RedisStreamUtil.streamKey(group);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (RedisStreamConsumer first = new RedisStreamConsumer(REDIS_KONFIG_KEY, group);
+                RedisStreamConsumer second = new RedisStreamConsumer(REDIS_KONFIG_KEY, group)) {
+            assertNotEquals(first.getConsumerGroup(), second.getConsumerGroup());
+            Future<List<StreamEntry>> firstEntries = executor.submit(() -> first.awaitMessages(messages.size(), entry -> true));
+            Future<List<StreamEntry>> secondEntries = executor.submit(() -> second.awaitMessages(messages.size(), entry -> true));
+            publisher.publishAll(messages);
+
+            assertEquals(messages, firstEntries.get().stream().map(RedisStreamConsumer::getMessage).collect(Collectors.toList()));
+            assertEquals(messages, secondEntries.get().stream().map(RedisStreamConsumer::getMessage).collect(Collectors.toList()));
+            assertEquals(2, redisCache.getJedis().xinfoGroups(streamKey).size());
+        } finally {
+            executor.shutdownNow();
+        }
+        // the own consumer groups are destroyed, nothing resumes from them later
+        assertTrue(redisCache.getJedis().xinfoGroups(streamKey).isEmpty());
+    }
+
+    @Test
+    @DisplayName("connection pool metrics")
+    void poolMetrics() throws BaseException {
+        redisHandler.setRedisDataExp(REDIS_KONFIG_KEY, TEST_KEY + "pool", 60, TEST_VALUE);
+        RedisPoolMetrics metrics = JedisConnectionCache.getPoolMetrics(REDIS_KONFIG_KEY).orElseThrow();
+        assertTrue(metrics.getBorrowedCount() > 0);
+        assertEquals(0, metrics.getNumActive());
+        assertEquals(0, metrics.getNumWaiters());
+        assertTrue(JedisConnectionCache.getPoolMetrics("notCreated").isEmpty());
+    }
+
+    @Test
+    @DisplayName("connection cache close and re-creation")
+    void connectionCacheLifecycle() {
+        String movedConfigKey = "testMoved";
+        System.setProperty("roaster.redis.testMoved.host", REDIS_SERVER.getHost());
+        System.setProperty("roaster.redis.testMoved.port", REDIS_SERVER.getMappedPort(6379).toString());
+        UnifiedJedis first = JedisConnectionCache.get(movedConfigKey);
+        assertSame(first, JedisConnectionCache.get(movedConfigKey));
+
+        JedisConnectionCache.close(movedConfigKey);
+        UnifiedJedis second = JedisConnectionCache.get(movedConfigKey);
+        assertNotSame(first, second);
+
+        assertSame(second, JedisConnectionCache.refresh(movedConfigKey));
+        System.setProperty("roaster.redis.testMoved.database", "1");
+        UnifiedJedis third = JedisConnectionCache.refresh(movedConfigKey);
+        assertNotSame(second, third);
+        assertSame(third, JedisConnectionCache.get(movedConfigKey));
+        assertNotNull(third.ping());
+        JedisConnectionCache.close(movedConfigKey);
+
+        // the changed database is detected by get, checked on every call
+        System.setProperty("roaster.redis.testMoved.configCheckMillis", "0");
+        UnifiedJedis fourth = JedisConnectionCache.get(movedConfigKey);
+        assertSame(fourth, JedisConnectionCache.get(movedConfigKey));
+        System.setProperty("roaster.redis.testMoved.database", "2");
+        UnifiedJedis fifth = JedisConnectionCache.get(movedConfigKey);
+        assertNotSame(fourth, fifth);
+        assertSame(fifth, JedisConnectionCache.get(movedConfigKey));
+        assertNotNull(fifth.ping());
+        JedisConnectionCache.close(movedConfigKey);
+    }
+
+    @Test
+    @DisplayName("snapshot capture and restore")
+    void snapshot() throws BaseException, IOException {
+        Map<String, String> data = IntStream.range(0, 1500)
+                .boxed()
+                .collect(Collectors.toMap(i -> TEST_KEY + "snapshot:" + i, i -> TEST_VALUE + i));
+        redisHandler.setRedisDataBulk(REDIS_KONFIG_KEY, data);
+        redisHandler.setRedisDataExp(REDIS_KONFIG_KEY, TEST_KEY + "snapshot:exp", 600, TEST_VALUE);
+        Path file = Files.createTempFile("roaster", ".redis");
+
+        RedisSnapshot.capture(REDIS_KONFIG_KEY, TEST_KEY + "snapshot:*").save(file);
+        redisHandler.removeByPattern(REDIS_KONFIG_KEY, TEST_KEY + "snapshot:*", 500);
+
+        RedisSnapshot snapshot = RedisSnapshot.load(file);
+        assertEquals(1501, snapshot.size());
+        assertEquals(1501, snapshot.restore(REDIS_KONFIG_KEY));
+        assertEquals(JsonUtil.toJson(TEST_VALUE + 42), redisHandler.getRedisData(REDIS_KONFIG_KEY, TEST_KEY + "snapshot:42", String.class));
+        assertEquals(-1, redisCache.getJedis().ttl(TEST_KEY + "snapshot:42"));
+        assertTrue(redisCache.getJedis().ttl(TEST_KEY + "snapshot:exp") > 0);
+        Files.delete(file);
+    }
+
+    private static class SmileValue {
+
+        private String value;
+        private LocalDate date;
+        private List<Integer> numbers;
+
+        SmileValue() {
+        }
+
+        SmileValue(String value, LocalDate date, List<Integer> numbers) {
+            this.value = value;
+            this.date = date;
+            this.numbers = numbers;
+        }
+    }
 }
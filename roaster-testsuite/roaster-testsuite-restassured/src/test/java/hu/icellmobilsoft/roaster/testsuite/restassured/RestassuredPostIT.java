@@ -19,6 +19,11 @@
  */
 package hu.icellmobilsoft.roaster.testsuite.restassured;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import jakarta.enterprise.inject.spi.CDI;
 import jakarta.inject.Inject;
 
@@ -36,6 +41,8 @@ import org.mockserver.model.MediaType;
 import org.testcontainers.containers.MockServerContainer;
 import org.testcontainers.utility.DockerImageName;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import hu.icellmobilsoft.coffee.dto.common.commonservice.BaseRequest;
 import hu.icellmobilsoft.coffee.dto.common.commonservice.BaseResponse;
 import hu.icellmobilsoft.coffee.dto.common.commonservice.ContextType;
@@ -46,6 +53,7 @@ import hu.icellmobilsoft.coffee.tool.utils.date.DateUtil;
 import hu.icellmobilsoft.coffee.tool.utils.json.JsonUtil;
 import hu.icellmobilsoft.roaster.api.TestSuiteGroup;
 import hu.icellmobilsoft.roaster.jaxrs.response.producer.RestProcessor;
+import hu.icellmobilsoft.roaster.restassured.se.response.BatchResult;
 import hu.icellmobilsoft.roaster.restassured.se.response.ConfigurableResponseProcessor;
 import hu.icellmobilsoft.roaster.weldunit.BaseWeldUnitType;
 
@@ -125,4 +133,26 @@ class RestassuredPostIT extends BaseWeldUnitType {
         BaseResponse response = cdiProcessor.postJson(requestBody, BaseResponse.class, "entityIdJson");
         Assertions.assertEquals(JsonUtil.toJson(RESPONSE_DTO), JsonUtil.toJson(response));
     }
+
+    @Test
+    @DisplayName("HTTP 200 Json parallel GET calls")
+    void httpJson200All() throws JsonConversionException {
+        List<Object[]> pathParams = IntStream.range(0, 20).mapToObj(i -> new Object[] { "entityIdJson" }).collect(Collectors.toList());
+        BatchResult<BaseResponse> result = processor.getJsonAll(BaseResponse.class, pathParams, 4);
+        List<BaseResponse> responses = result.assertAllSuccessful();
+        Assertions.assertEquals(20, responses.size());
+        Assertions.assertEquals(JsonUtil.toJson(RESPONSE_DTO), JsonUtil.toJson(responses.get(0)));
+    }
+
+    @Test
+    @DisplayName("HTTP 200 Json request with streaming value extraction")
+    void httpJson200Values() {
+        BaseRequest requestBody = new BaseRequest()
+                .withContext(new ContextType().withRequestId(RandomUtil.generateId()).withTimestamp(DateUtil.nowUTC()));
+        Map<String, JsonNode> values = processor.postJsonValues(requestBody, List.of("/context/requestId", "/funcCode", "/notExisting"),
+                "entityIdJson");
+        Assertions.assertEquals(RESPONSE_DTO.getContext().getRequestId(), values.get("/context/requestId").asText());
+        Assertions.assertEquals(FunctionCodeType.OK.value(), values.get("/funcCode").asText());
+        Assertions.assertTrue(values.get("/notExisting").isMissingNode());
+    }
 }